@@ -0,0 +1,92 @@
+package cofh.redstonearsenal.gametest;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mojang.logging.LogUtils;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static cofh.lib.util.constants.ModIds.ID_REDSTONE_ARSENAL;
+
+/**
+ * Upper limits for the performance scenarios. A scenario fails if any metric listed for it in the baseline is exceeded.
+ * <p>
+ * The baseline has the same shape as the {@link PerformanceReport}: a {@code scenarios} object keyed by scenario name, each holding metrics by
+ * their report names, such as {@code mspt_p95} or {@code allocated_bytes_per_tick}. Metrics and scenarios that are not listed are not
+ * checked. The baseline is read from the path in the {@code redstone_arsenal.performanceBaseline} system property, or from
+ * {@code redstone_arsenal_performance_baseline.json} on the classpath.
+ */
+public class PerformanceBaseline {
+
+    public static final String PATH_PROPERTY = ID_REDSTONE_ARSENAL + ".performanceBaseline";
+    public static final String RESOURCE = "/" + ID_REDSTONE_ARSENAL + "_performance_baseline.json";
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static JsonObject scenarios;
+
+    private PerformanceBaseline() {
+
+    }
+
+    /**
+     * Returns a description of every metric of the result that exceeds its limit; empty if the result is within the baseline.
+     */
+    public static synchronized List<String> check(PerformanceProbe.Result result) {
+
+        List<String> exceeded = new ArrayList<>();
+        JsonObject limits = getScenarios().getAsJsonObject(result.scenario());
+        if (limits == null) {
+            return exceeded;
+        }
+        JsonObject measured = PerformanceReport.toJson(result);
+        for (Map.Entry<String, JsonElement> limit : limits.entrySet()) {
+            JsonElement value = measured.get(limit.getKey());
+            if (value == null || !value.isJsonPrimitive() || !value.getAsJsonPrimitive().isNumber()) {
+                LOGGER.warn("Performance baseline for {} lists unknown metric {}", result.scenario(), limit.getKey());
+                continue;
+            }
+            if (value.getAsDouble() > limit.getValue().getAsDouble()) {
+                exceeded.add(limit.getKey() + " " + value.getAsDouble() + " > " + limit.getValue().getAsDouble());
+            }
+        }
+        return exceeded;
+    }
+
+    protected static JsonObject getScenarios() {
+
+        if (scenarios == null) {
+            JsonObject baseline = read();
+            scenarios = baseline.has("scenarios") ? baseline.getAsJsonObject("scenarios") : new JsonObject();
+        }
+        return scenarios;
+    }
+
+    protected static JsonObject read() {
+
+        String path = System.getProperty(PATH_PROPERTY);
+        try (InputStream stream = path != null ? Files.newInputStream(Path.of(path)) : PerformanceBaseline.class.getResourceAsStream(RESOURCE)) {
+            if (stream == null) {
+                LOGGER.warn("No performance baseline found; scenarios will not be checked");
+                return new JsonObject();
+            }
+            try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+                return JsonParser.parseReader(reader).getAsJsonObject();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read performance baseline from " + (path != null ? path : RESOURCE), e);
+        }
+    }
+
+}
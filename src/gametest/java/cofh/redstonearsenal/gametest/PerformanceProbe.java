@@ -0,0 +1,122 @@
+package cofh.redstonearsenal.gametest;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.MinecraftServer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Records the server tick times and the server thread's allocations while a performance scenario runs.
+ * <p>
+ * Tick times are read from the server's own tick time ring, so they cover the whole server tick, not just the scenario's entities. Scenarios
+ * run in separate batches so that no other test shares their ticks.
+ */
+public class PerformanceProbe {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    static {
+        if (THREADS instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    protected final String scenario;
+    protected final MinecraftServer server;
+    protected final Map<String, Number> parameters = new LinkedHashMap<>();
+    protected final LongArrayList tickNanos = new LongArrayList();
+    protected boolean recording;
+    protected int lastTick;
+    protected long startAllocated;
+
+    public PerformanceProbe(GameTestHelper helper, String scenario) {
+
+        this.scenario = scenario;
+        this.server = helper.getLevel().getServer();
+    }
+
+    public PerformanceProbe param(String key, Number value) {
+
+        parameters.put(key, value);
+        return this;
+    }
+
+    public void start() {
+
+        recording = true;
+        lastTick = server.getTickCount();
+        startAllocated = allocatedBytes();
+    }
+
+    /**
+     * Records the duration of the previous server tick. Called once per test tick.
+     */
+    public void tick() {
+
+        int tick = server.getTickCount();
+        if (!recording || tick == lastTick) {
+            return;
+        }
+        lastTick = tick;
+        tickNanos.add(server.tickTimes[(tick - 1) % server.tickTimes.length]);
+    }
+
+    public Result finish() {
+
+        recording = false;
+        long allocated = startAllocated < 0 ? -1 : allocatedBytes() - startAllocated;
+        Result result = new Result(scenario, parameters, tickNanos.toLongArray(), allocated);
+        PerformanceReport.record(result);
+        return result;
+    }
+
+    protected static long allocatedBytes() {
+
+        if (THREADS instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    // region RESULT
+    public record Result(String scenario, Map<String, Number> parameters, long[] tickNanos, long allocatedBytes) {
+
+        public int ticks() {
+
+            return tickNanos.length;
+        }
+
+        public double meanMspt() {
+
+            return ticks() == 0 ? 0 : Arrays.stream(tickNanos).average().orElse(0) / 1.0E6D;
+        }
+
+        public double percentileMspt(double percentile) {
+
+            if (ticks() == 0) {
+                return 0;
+            }
+            long[] sorted = tickNanos.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1.0E6D;
+        }
+
+        public double maxMspt() {
+
+            return ticks() == 0 ? 0 : Arrays.stream(tickNanos).max().orElse(0) / 1.0E6D;
+        }
+
+        public long allocatedBytesPerTick() {
+
+            return allocatedBytes < 0 || ticks() == 0 ? -1 : allocatedBytes / ticks();
+        }
+
+    }
+    // endregion
+}
@@ -0,0 +1,112 @@
+package cofh.redstonearsenal.gametest;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.mojang.logging.LogUtils;
+import net.minecraftforge.fml.loading.FMLPaths;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static cofh.lib.util.constants.ModIds.ID_REDSTONE_ARSENAL;
+
+/**
+ * Machine-readable report of the performance scenarios. The whole report is rewritten after each scenario, so a run that is stopped early
+ * still leaves the finished scenarios on disk.
+ * <p>
+ * The report goes to the path in the {@code redstone_arsenal.performanceReport} system property, or to
+ * {@code reports/redstone_arsenal_performance.json} under the game directory. It has this shape:
+ * <pre>{@code
+ * {
+ *   "mod": "redstone_arsenal",
+ *   "started": "<ISO-8601 instant>",
+ *   "java": "<java.version>",
+ *   "scenarios": {
+ *     "<scenario>": {
+ *       "parameters": { "<name>": <number>, ... },
+ *       "ticks": <int>,
+ *       "mspt_mean": <double>, "mspt_p50": <double>, "mspt_p95": <double>, "mspt_max": <double>,
+ *       "allocated_bytes": <long>, "allocated_bytes_per_tick": <long>
+ *     }
+ *   }
+ * }
+ * }</pre>
+ * Allocation figures are -1 where the JVM cannot measure per-thread allocation. The {@link PerformanceBaseline} uses the same metric names.
+ */
+public class PerformanceReport {
+
+    public static final String PATH_PROPERTY = ID_REDSTONE_ARSENAL + ".performanceReport";
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private static final Map<String, PerformanceProbe.Result> RESULTS = new LinkedHashMap<>();
+    private static final String STARTED = Instant.now().toString();
+
+    private PerformanceReport() {
+
+    }
+
+    public static synchronized void record(PerformanceProbe.Result result) {
+
+        RESULTS.put(result.scenario(), result);
+        LOGGER.info("Performance scenario {}: {} ticks, mean {} mspt, p95 {} mspt, {} bytes allocated per tick",
+                result.scenario(), result.ticks(), String.format("%.3f", result.meanMspt()), String.format("%.3f", result.percentileMspt(0.95D)), result.allocatedBytesPerTick());
+        write();
+    }
+
+    public static Path getPath() {
+
+        String path = System.getProperty(PATH_PROPERTY);
+        return path != null ? Path.of(path) : FMLPaths.GAMEDIR.get().resolve("reports").resolve(ID_REDSTONE_ARSENAL + "_performance.json");
+    }
+
+    protected static void write() {
+
+        JsonObject report = new JsonObject();
+        report.addProperty("mod", ID_REDSTONE_ARSENAL);
+        report.addProperty("started", STARTED);
+        report.addProperty("java", System.getProperty("java.version"));
+        JsonObject scenarios = new JsonObject();
+        for (PerformanceProbe.Result result : RESULTS.values()) {
+            scenarios.add(result.scenario(), toJson(result));
+        }
+        report.add("scenarios", scenarios);
+
+        Path path = getPath();
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                GSON.toJson(report, writer);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to write performance report to {}", path, e);
+        }
+    }
+
+    protected static JsonObject toJson(PerformanceProbe.Result result) {
+
+        JsonObject parameters = new JsonObject();
+        result.parameters().forEach(parameters::addProperty);
+
+        JsonObject json = new JsonObject();
+        json.add("parameters", parameters);
+        json.addProperty("ticks", result.ticks());
+        json.addProperty("mspt_mean", result.meanMspt());
+        json.addProperty("mspt_p50", result.percentileMspt(0.5D));
+        json.addProperty("mspt_p95", result.percentileMspt(0.95D));
+        json.addProperty("mspt_max", result.maxMspt());
+        json.addProperty("allocated_bytes", result.allocatedBytes());
+        json.addProperty("allocated_bytes_per_tick", result.allocatedBytesPerTick());
+        return json;
+    }
+
+}
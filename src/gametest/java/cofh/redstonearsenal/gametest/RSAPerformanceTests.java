@@ -0,0 +1,264 @@
+package cofh.redstonearsenal.gametest;
+
+import cofh.lib.api.capability.IArcheryBowItem;
+import cofh.redstonearsenal.entity.Shockwave;
+import cofh.redstonearsenal.item.IFluxItem;
+import cofh.redstonearsenal.item.IMultiModeFluxItem;
+import com.mojang.authlib.GameProfile;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.common.util.FakePlayerFactory;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+import static cofh.core.capability.CapabilityArchery.BOW_ITEM_CAPABILITY;
+import static cofh.lib.util.constants.ModIds.ID_REDSTONE_ARSENAL;
+import static cofh.lib.util.constants.NBTTags.TAG_ENERGY;
+import static cofh.redstonearsenal.RedstoneArsenal.ITEMS;
+
+/**
+ * Performance scenarios for the combat and tool hot paths. Each scenario warms up, then records {@link #MEASURE_TICKS} server ticks with a
+ * {@link PerformanceProbe}; results are collected in the {@link PerformanceReport}, and a scenario fails if it exceeds its limits in the
+ * {@link PerformanceBaseline}.
+ * <p>
+ * Target mobs are spawned with {@link #TARGET_HEALTH} so that they survive the whole run without being healed; a scenario also fails if any
+ * of its targets dies, since the rest of the run would not be comparable.
+ * <p>
+ * Run with {@code gradlew runGameTestServer}. Every scenario is in its own batch, so scenarios never share server ticks.
+ */
+@GameTestHolder (ID_REDSTONE_ARSENAL)
+@PrefixGameTestTemplate (false)
+public class RSAPerformanceTests {
+
+    public static final String ARENA = "performance_arena";
+    public static final int ARENA_SIZE = 48;
+
+    public static final int WARMUP_TICKS = 20;
+    public static final int MEASURE_TICKS = 200;
+    public static final int TIMEOUT_TICKS = WARMUP_TICKS + MEASURE_TICKS + 100;
+
+    public static final double TARGET_HEALTH = 1024.0D;
+    public static final int FULL_CHARGE = 20;
+
+    private static final Vec3 CENTER = new Vec3(ARENA_SIZE * 0.5D, 1.0D, ARENA_SIZE * 0.5D);
+
+    // region SCENARIOS
+    @GameTest (template = ARENA, batch = "rsa_performance_shockwave", timeoutTicks = TIMEOUT_TICKS)
+    public static void shockwaveMobs(GameTestHelper helper) {
+
+        int mobs = 500;
+        int waveInterval = 10;
+        // One wave per quadrant; each wave's radius reaches the corners of its quadrant.
+        List<Mob> targets = spawnGrid(helper, mobs, 11.0D);
+        List<Vec3> origins = new ArrayList<>(4);
+        for (int i = 0; i < 4; ++i) {
+            origins.add(helper.absoluteVec(CENTER.add((i & 1) == 0 ? -5.5D : 5.5D, 0.0D, (i & 2) == 0 ? -5.5D : 5.5D)));
+        }
+        FakePlayer attacker = fakePlayer(helper, 0, CENTER, 0.0F, 0.0F);
+        ServerLevel level = helper.getLevel();
+
+        PerformanceProbe probe = new PerformanceProbe(helper, "shockwave_mobs")
+                .param("mobs", mobs)
+                .param("wave_interval", waveInterval)
+                .param("waves_per_interval", origins.size());
+        measure(helper, probe, targets, tick -> {
+            if (tick % waveInterval == 0) {
+                for (Vec3 origin : origins) {
+                    Shockwave wave = new Shockwave(level, attacker, origin, 0.0F);
+                    wave.damage = 0.5F;
+                    level.addFreshEntity(wave);
+                }
+            }
+        });
+    }
+
+    @GameTest (template = ARENA, batch = "rsa_performance_arrows", timeoutTicks = TIMEOUT_TICKS)
+    public static void fluxArrowVolleys(GameTestHelper helper) {
+
+        int shooters = 100;
+        int volleyInterval = 20;
+        int arrowsPerVolley = 3;
+        List<Mob> targets = spawnGrid(helper, 50, 4.0D);
+        List<FakePlayer> players = new ArrayList<>(shooters);
+        List<IArcheryBowItem> bows = new ArrayList<>(shooters);
+        for (int i = 0; i < shooters; ++i) {
+            double angle = Mth.TWO_PI * i / shooters;
+            Vec3 pos = CENTER.add(Math.cos(angle) * 20.0D, 0.0D, Math.sin(angle) * 20.0D);
+            float yRot = (float) (Mth.atan2(CENTER.z - pos.z, CENTER.x - pos.x) * Mth.RAD_TO_DEG) - 90.0F;
+            FakePlayer player = fakePlayer(helper, i, pos, yRot, 0.0F);
+            ItemStack bow = chargedStack("flux_bow");
+            player.setItemInHand(InteractionHand.MAIN_HAND, bow);
+            player.setItemInHand(InteractionHand.OFF_HAND, chargedStack("flux_quiver"));
+            players.add(player);
+            bows.add(bow.getCapability(BOW_ITEM_CAPABILITY).orElseThrow(IllegalStateException::new));
+        }
+        ServerLevel level = helper.getLevel();
+
+        PerformanceProbe probe = new PerformanceProbe(helper, "flux_arrow_volleys")
+                .param("shooters", shooters)
+                .param("volley_interval", volleyInterval)
+                .param("arrows_per_volley", arrowsPerVolley);
+        // Arrows are loosed through the Flux Bow with Flux Quiver ammo, as a player's would be; the yaw is fanned out for each arrow in a volley.
+        measure(helper, probe, targets, tick -> {
+            for (int i = tick % volleyInterval; i < shooters; i += volleyInterval) {
+                FakePlayer shooter = players.get(i);
+                float yRot = shooter.getYRot();
+                for (int j = 0; j < arrowsPerVolley; ++j) {
+                    shooter.setYRot(yRot + 10.0F * (j - arrowsPerVolley / 2));
+                    bows.get(i).fireArrow(shooter.getOffhandItem(), shooter, FULL_CHARGE, level);
+                }
+                shooter.setYRot(yRot);
+            }
+        });
+    }
+
+    @GameTest (template = ARENA, batch = "rsa_performance_hammer", timeoutTicks = TIMEOUT_TICKS)
+    public static void hammerAreaBreaks(GameTestHelper helper) {
+
+        int miners = 10;
+        int breakInterval = 10;
+        List<FakePlayer> players = new ArrayList<>(miners);
+        List<BlockPos> faces = new ArrayList<>(miners);
+        for (int i = 0; i < miners; ++i) {
+            int z = 4 + 4 * i;
+            FakePlayer player = fakePlayer(helper, i, new Vec3(10.5D, 1.0D, z + 0.5D), -90.0F, 0.0F);
+            player.setItemInHand(InteractionHand.MAIN_HAND, empoweredStack("flux_hammer"));
+            players.add(player);
+            faces.add(new BlockPos(12, 2, z));
+        }
+
+        PerformanceProbe probe = new PerformanceProbe(helper, "hammer_area_breaks")
+                .param("miners", miners)
+                .param("break_interval", breakInterval);
+        measure(helper, probe, List.of(), tick -> {
+            for (int i = tick % breakInterval; i < miners; i += breakInterval) {
+                BlockPos face = faces.get(i);
+                for (BlockPos pos : BlockPos.betweenClosed(face.offset(0, -1, -1), face.offset(0, 1, 1))) {
+                    helper.setBlock(pos, Blocks.STONE);
+                }
+                players.get(i).gameMode.destroyBlock(helper.absolutePos(face));
+            }
+        });
+    }
+
+    @GameTest (template = ARENA, batch = "rsa_performance_shielding", timeoutTicks = TIMEOUT_TICKS)
+    public static void fluxShieldingHitStorm(GameTestHelper helper) {
+
+        int targetCount = 50;
+        int hitsPerTick = 4;
+        List<Mob> targets = spawnGrid(helper, targetCount, 8.0D);
+        for (Mob target : targets) {
+            target.setItemSlot(EquipmentSlot.HEAD, chargedStack("flux_helmet"));
+            target.setItemSlot(EquipmentSlot.CHEST, chargedStack("flux_chestplate"));
+            target.setItemSlot(EquipmentSlot.LEGS, chargedStack("flux_leggings"));
+            target.setItemSlot(EquipmentSlot.FEET, chargedStack("flux_boots"));
+        }
+        FakePlayer attacker = fakePlayer(helper, 0, CENTER, 0.0F, 0.0F);
+        DamageSource source = DamageSource.playerAttack(attacker);
+
+        PerformanceProbe probe = new PerformanceProbe(helper, "flux_shielding_hit_storm")
+                .param("targets", targetCount)
+                .param("hits_per_tick", hitsPerTick);
+        measure(helper, probe, targets, tick -> {
+            for (Mob target : targets) {
+                for (int i = 0; i < hitsPerTick; ++i) {
+                    target.invulnerableTime = 0;
+                    target.hurt(source, 2.0F);
+                }
+            }
+        });
+    }
+    // endregion
+
+    // region HELPERS
+    /**
+     * Runs the scenario every tick, recording from the end of the warmup until the measurement ends. The test then fails if any target died
+     * or the result exceeds the baseline, and passes otherwise.
+     */
+    protected static void measure(GameTestHelper helper, PerformanceProbe probe, List<? extends LivingEntity> targets, IntConsumer scenario) {
+
+        int[] tick = {0};
+        helper.onEachTick(() -> {
+            probe.tick();
+            scenario.accept(tick[0]++);
+        });
+        helper.runAfterDelay(WARMUP_TICKS, probe::start);
+        helper.runAfterDelay(WARMUP_TICKS + MEASURE_TICKS, () -> {
+            PerformanceProbe.Result result = probe.finish();
+            long dead = targets.stream().filter(target -> !target.isAlive()).count();
+            if (dead > 0) {
+                helper.fail(dead + " of " + targets.size() + " targets died during " + result.scenario());
+            }
+            List<String> exceeded = PerformanceBaseline.check(result);
+            if (!exceeded.isEmpty()) {
+                helper.fail(result.scenario() + " exceeded its baseline: " + String.join(", ", exceeded));
+            }
+            helper.succeed();
+        });
+    }
+
+    protected static List<Mob> spawnGrid(GameTestHelper helper, int count, double halfWidth) {
+
+        List<Mob> mobs = new ArrayList<>(count);
+        int side = Mth.ceil(Math.sqrt(count));
+        double spacing = side > 1 ? halfWidth * 2.0D / (side - 1) : 0.0D;
+        for (int i = 0; i < count; ++i) {
+            double x = CENTER.x - halfWidth + spacing * (i % side);
+            double z = CENTER.z - halfWidth + spacing * (i / side);
+            Mob mob = helper.spawnWithNoFreeWill(EntityType.HUSK, (float) x, (float) CENTER.y, (float) z);
+            mob.getAttribute(Attributes.MAX_HEALTH).setBaseValue(TARGET_HEALTH);
+            mob.setHealth(mob.getMaxHealth());
+            mobs.add(mob);
+        }
+        return mobs;
+    }
+
+    protected static FakePlayer fakePlayer(GameTestHelper helper, int index, Vec3 pos, float yRot, float xRot) {
+
+        String name = "rsa_perf_" + index;
+        FakePlayer player = FakePlayerFactory.get(helper.getLevel(), new GameProfile(UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)), name));
+        player.getInventory().clearContent();
+        Vec3 absolute = helper.absoluteVec(pos);
+        player.moveTo(absolute.x, absolute.y, absolute.z, yRot, xRot);
+        return player;
+    }
+
+    protected static ItemStack chargedStack(String id) {
+
+        ItemStack stack = new ItemStack(ITEMS.get(id));
+        if (stack.getItem() instanceof IFluxItem fluxItem) {
+            stack.getOrCreateTag().putInt(TAG_ENERGY, fluxItem.getMaxEnergyStored(stack));
+        }
+        return stack;
+    }
+
+    protected static ItemStack empoweredStack(String id) {
+
+        ItemStack stack = chargedStack(id);
+        if (stack.getItem() instanceof IMultiModeFluxItem fluxItem) {
+            fluxItem.setMode(stack, 1);
+        }
+        return stack;
+    }
+    // endregion
+}
@@ -4,7 +4,9 @@ import cofh.core.config.ConfigManager;
 import cofh.core.event.CoreClientEvents;
 import cofh.lib.network.PacketHandler;
 import cofh.lib.util.DeferredRegisterCoFH;
+import cofh.redstonearsenal.capability.CapabilityFluxGlowAir;
 import cofh.redstonearsenal.capability.CapabilityFluxShielding;
+import cofh.redstonearsenal.compat.curios.CuriosEvents;
 import cofh.redstonearsenal.config.RSAConfig;
 import cofh.redstonearsenal.init.*;
 import net.minecraft.resources.ResourceLocation;
@@ -16,6 +18,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.Block;
 import net.minecraftforge.common.capabilities.RegisterCapabilitiesEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
+import net.minecraftforge.fml.ModList;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
@@ -24,6 +27,7 @@ import net.minecraftforge.registries.ForgeRegistries;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import static cofh.lib.util.constants.ModIds.ID_CURIOS;
 import static cofh.lib.util.constants.ModIds.ID_REDSTONE_ARSENAL;
 import static cofh.redstonearsenal.init.RSAIDs.ID_FLUX_SWORD;
 
@@ -70,12 +74,17 @@ public class RedstoneArsenal {
         RSAEntities.register();
         RSAPackets.register();
         RSASounds.register();
+
+        if (ModList.get().isLoaded(ID_CURIOS)) {
+            CuriosEvents.register();
+        }
     }
 
     // region INITIALIZATION
     private void capSetup(RegisterCapabilitiesEvent event) {
 
         CapabilityFluxShielding.register(event);
+        CapabilityFluxGlowAir.register(event);
     }
 
     private void commonSetup(final FMLCommonSetupEvent event) {
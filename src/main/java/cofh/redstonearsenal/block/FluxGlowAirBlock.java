@@ -1,6 +1,7 @@
 package cofh.redstonearsenal.block;
 
 import cofh.lib.util.Utils;
+import cofh.redstonearsenal.capability.FluxGlowAirChunkData;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.util.RandomSource;
@@ -23,4 +24,28 @@ public class FluxGlowAirBlock extends AirBlock {
         }
     }
 
+    @Override
+    public void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean isMoving) {
+
+        if (!oldState.is(this)) {
+            FluxGlowAirChunkData data = FluxGlowAirChunkData.get(level, pos);
+            if (data != null) {
+                data.add(pos);
+            }
+        }
+        super.onPlace(state, level, pos, oldState, isMoving);
+    }
+
+    @Override
+    public void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean isMoving) {
+
+        if (!newState.is(this)) {
+            FluxGlowAirChunkData data = FluxGlowAirChunkData.get(level, pos);
+            if (data != null) {
+                data.remove(pos);
+            }
+        }
+        super.onRemove(state, level, pos, newState, isMoving);
+    }
+
 }
@@ -0,0 +1,17 @@
+package cofh.redstonearsenal.capability;
+
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.capabilities.CapabilityToken;
+import net.minecraftforge.common.capabilities.RegisterCapabilitiesEvent;
+
+public class CapabilityFluxGlowAir {
+
+    public static Capability<FluxGlowAirChunkData> FLUX_GLOW_AIR_CAPABILITY = CapabilityManager.get(new CapabilityToken<>() {});
+
+    public static void register(RegisterCapabilitiesEvent event) {
+
+        event.register(FluxGlowAirChunkData.class);
+    }
+
+}
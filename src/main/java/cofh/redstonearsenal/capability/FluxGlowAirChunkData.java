@@ -0,0 +1,128 @@
+package cofh.redstonearsenal.capability;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
+import net.minecraftforge.common.util.LazyOptional;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.function.Predicate;
+
+import static cofh.redstonearsenal.capability.CapabilityFluxGlowAir.FLUX_GLOW_AIR_CAPABILITY;
+import static cofh.redstonearsenal.init.RSABlocks.FLUX_GLOW_AIR;
+
+/**
+ * Chunk capability which records the positions of Flux Glow Air placed in the chunk.
+ * Kept up to date by the block itself. Nothing is saved with the chunk: the index is rebuilt the first time it is needed after the chunk
+ * loads, by scanning only the sections whose block palette may contain Glow Air. This also picks up Glow Air placed before the index existed.
+ */
+public class FluxGlowAirChunkData implements ICapabilityProvider {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final LazyOptional<FluxGlowAirChunkData> holder = LazyOptional.of(() -> this);
+
+    protected LongOpenHashSet positions;
+    protected boolean scanned;
+
+    @Nullable
+    public static FluxGlowAirChunkData get(Level level, BlockPos pos) {
+
+        return level.isClientSide ? null : get(level.getChunkAt(pos));
+    }
+
+    @Nullable
+    public static FluxGlowAirChunkData get(LevelChunk chunk) {
+
+        return chunk.getCapability(FLUX_GLOW_AIR_CAPABILITY).resolve().orElse(null);
+    }
+
+    /**
+     * Returns the index for the chunk containing the position, scanning the chunk first if needed. Server-side only.
+     */
+    @Nullable
+    public static FluxGlowAirChunkData getIndexed(Level level, BlockPos pos) {
+
+        return level.isClientSide ? null : getIndexed(level.getChunkAt(pos));
+    }
+
+    @Nullable
+    public static FluxGlowAirChunkData getIndexed(LevelChunk chunk) {
+
+        FluxGlowAirChunkData data = get(chunk);
+        if (data != null && !data.scanned) {
+            data.scan(chunk);
+        }
+        return data;
+    }
+
+    protected void scan(LevelChunk chunk) {
+
+        scanned = true;
+        Predicate<BlockState> isGlowAir = state -> state.is(FLUX_GLOW_AIR.get());
+        LevelChunkSection[] sections = chunk.getSections();
+        for (int i = 0; i < sections.length; ++i) {
+            LevelChunkSection section = sections[i];
+            if (!section.maybeHas(isGlowAir)) {
+                continue;
+            }
+            int minX = chunk.getPos().getMinBlockX();
+            int minY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(i));
+            int minZ = chunk.getPos().getMinBlockZ();
+            for (int y = 0; y < 16; ++y) {
+                for (int z = 0; z < 16; ++z) {
+                    for (int x = 0; x < 16; ++x) {
+                        if (isGlowAir.test(section.getBlockState(x, y, z))) {
+                            add(new BlockPos(minX + x, minY + y, minZ + z));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    public void add(BlockPos pos) {
+
+        if (positions == null) {
+            positions = new LongOpenHashSet();
+        }
+        positions.add(pos.asLong());
+    }
+
+    public void remove(BlockPos pos) {
+
+        if (positions != null) {
+            positions.remove(pos.asLong());
+        }
+    }
+
+    public int size() {
+
+        return positions == null ? 0 : positions.size();
+    }
+
+    /**
+     * @return A copy of the recorded positions, in packed form.
+     */
+    public long[] getPositions() {
+
+        return positions == null ? EMPTY : positions.toLongArray();
+    }
+
+    // region ICapabilityProvider
+    @Override
+    @Nonnull
+    public <T> LazyOptional<T> getCapability(@Nonnull Capability<T> cap, @Nullable Direction side) {
+
+        return FLUX_GLOW_AIR_CAPABILITY.orEmpty(cap, holder);
+    }
+    // endregion
+}
@@ -0,0 +1,97 @@
+package cofh.redstonearsenal.capability;
+
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraftforge.common.util.INBTSerializable;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Recharge state of a flux shield with one or more charges.
+ * <p>
+ * Each charge stores the game time at which it is available again; a charge is ready once that time has passed. Spent charges recharge one
+ * after another, each taking the delay given by the recharge curve for the number of charges that were missing when it was spent.
+ */
+public class FluxShieldState implements INBTSerializable<LongArrayTag> {
+
+    protected final IntUnaryOperator rechargeCurve;
+    protected long[] rechargeTimes;
+
+    public FluxShieldState(int maxCharges, IntUnaryOperator rechargeCurve) {
+
+        this.rechargeTimes = new long[Math.max(maxCharges, 0)];
+        this.rechargeCurve = rechargeCurve;
+    }
+
+    public int maxCharges() {
+
+        return rechargeTimes.length;
+    }
+
+    public int currCharges(long gameTime) {
+
+        int charges = 0;
+        for (long time : rechargeTimes) {
+            if (time <= gameTime) {
+                ++charges;
+            }
+        }
+        return charges;
+    }
+
+    /**
+     * @return Game time at which the next spent charge becomes available, or -1 if every charge is ready.
+     */
+    public long nextRechargeTime(long gameTime) {
+
+        long next = -1;
+        for (long time : rechargeTimes) {
+            if (time > gameTime && (next < 0 || time < next)) {
+                next = time;
+            }
+        }
+        return next;
+    }
+
+    public boolean useCharge(long gameTime) {
+
+        int ready = -1;
+        long queued = gameTime;
+        for (int i = 0; i < rechargeTimes.length; ++i) {
+            if (rechargeTimes[i] <= gameTime) {
+                ready = i;
+            } else {
+                queued = Math.max(queued, rechargeTimes[i]);
+            }
+        }
+        if (ready < 0) {
+            return false;
+        }
+        int missing = rechargeTimes.length - currCharges(gameTime) + 1;
+        rechargeTimes[ready] = queued + Math.max(rechargeCurve.applyAsInt(missing), 0);
+        return true;
+    }
+
+    // region NBT
+    @Override
+    public LongArrayTag serializeNBT() {
+
+        return new LongArrayTag(rechargeTimes);
+    }
+
+    @Override
+    public void deserializeNBT(LongArrayTag nbt) {
+
+        load(nbt.getAsLongArray());
+    }
+
+    /**
+     * Loads recharge times, keeping the configured number of charges. Missing entries are ready; extra entries are dropped.
+     */
+    public void load(long[] times) {
+
+        Arrays.fill(rechargeTimes, 0L);
+        System.arraycopy(times, 0, rechargeTimes, 0, Math.min(times.length, rechargeTimes.length));
+    }
+    // endregion
+}
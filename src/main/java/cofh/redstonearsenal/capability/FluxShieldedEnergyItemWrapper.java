@@ -3,8 +3,13 @@ package cofh.redstonearsenal.capability;
 import cofh.lib.api.item.IEnergyContainerItem;
 import cofh.lib.energy.EnergyContainerItemWrapper;
 import cofh.lib.util.Utils;
+import cofh.redstonearsenal.util.ShieldRechargeScheduler;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.nbt.LongTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.common.capabilities.Capability;
@@ -12,13 +17,14 @@ import net.minecraftforge.common.util.LazyOptional;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.function.IntUnaryOperator;
 
 import static cofh.redstonearsenal.capability.CapabilityFluxShielding.FLUX_SHIELDED_ITEM_CAPABILITY;
 import static cofh.redstonearsenal.util.FluxShieldingHelper.TAG_FLUX_SHIELD;
 
 /**
  * Standard implementation for the IFluxShieldItem capability.
- * An energy container with 1 shield charge that takes 30 seconds to regenerate.
+ * An energy container with 1 shield charge that takes 30 seconds to regenerate, unless configured otherwise.
  *
  * @author Hekera
  * why am i here
@@ -30,46 +36,90 @@ public class FluxShieldedEnergyItemWrapper extends EnergyContainerItemWrapper im
     protected final ItemStack shieldedItem;
     protected final int COOLDOWN = 600;
     protected int energyPerUse;
-    protected long availableTime = -1;
+    protected final FluxShieldState state;
+    protected Tag loadedTag;
 
     public FluxShieldedEnergyItemWrapper(ItemStack shieldedItemContainer, int energyPerUse) {
 
+        this(shieldedItemContainer, energyPerUse, 1, null);
+    }
+
+    /**
+     * @param maxCharges    Number of shield charges.
+     * @param rechargeCurve Recharge delay in ticks, given the number of charges missing when a charge is spent. Defaults to 30 seconds.
+     */
+    public FluxShieldedEnergyItemWrapper(ItemStack shieldedItemContainer, int energyPerUse, int maxCharges, @Nullable IntUnaryOperator rechargeCurve) {
+
         super(shieldedItemContainer, (IEnergyContainerItem) shieldedItemContainer.getItem(), ((IEnergyContainerItem) shieldedItemContainer.getItem()).getEnergyCapability());
         this.shieldedItem = shieldedItemContainer;
         this.energyPerUse = energyPerUse;
+        this.state = new FluxShieldState(maxCharges, rechargeCurve == null ? missing -> COOLDOWN : rechargeCurve);
+    }
+
+    /**
+     * Returns the shield state, reloading it if the stack's shield tag has been replaced since it was last read. Reading never creates a tag.
+     */
+    protected FluxShieldState getState() {
+
+        CompoundTag nbt = shieldedItem.getTag();
+        Tag tag = nbt == null ? null : nbt.get(TAG_FLUX_SHIELD);
+        if (tag != loadedTag) {
+            if (tag instanceof LongArrayTag times) {
+                state.deserializeNBT(times);
+            } else if (tag instanceof LongTag legacy) {
+                state.load(new long[]{legacy.getAsLong()});
+            } else {
+                state.load(new long[0]);
+            }
+            loadedTag = tag;
+        }
+        return state;
+    }
+
+    protected void saveState() {
+
+        LongArrayTag tag = state.serializeNBT();
+        shieldedItem.getOrCreateTag().put(TAG_FLUX_SHIELD, tag);
+        loadedTag = tag;
+    }
+
+    protected boolean hasShieldEnergy() {
+
+        return energyPerUse <= 0 || getEnergyStored() >= energyPerUse;
     }
 
     @Override
     public int currCharges(LivingEntity entity) {
 
-        CompoundTag nbt = shieldedItem.getOrCreateTag();
-        if (energyPerUse > 0 && getEnergyStored() < energyPerUse) {
-            return 0;
-        }
-        if (availableTime <= -1) {
-            if (!nbt.contains(TAG_FLUX_SHIELD)) {
-                availableTime = 0;
-                return 1;
-            }
-            availableTime = nbt.getLong(TAG_FLUX_SHIELD);
-        }
-        return entity.level.getGameTime() >= availableTime ? 1 : 0;
+        return hasShieldEnergy() ? getState().currCharges(entity.level.getGameTime()) : 0;
     }
 
     @Override
     public int maxCharges(LivingEntity entity) {
 
-        return 1;
+        return state.maxCharges();
+    }
+
+    @Override
+    public long nextRechargeTime(LivingEntity entity) {
+
+        return hasShieldEnergy() ? getState().nextRechargeTime(entity.level.getGameTime()) : -1;
     }
 
     @Override
     public boolean useCharge(LivingEntity entity) {
 
-        if (currCharges(entity) < 1 || (energyPerUse > 0 && getEnergyStored() >= energyPerUse && extractEnergy(energyPerUse, Utils.isCreativePlayer(entity)) != energyPerUse)) {
+        if (currCharges(entity) < 1 || (energyPerUse > 0 && extractEnergy(energyPerUse, Utils.isCreativePlayer(entity)) != energyPerUse)) {
             return false;
         }
-        availableTime = entity.level.getGameTime() + COOLDOWN;
-        shieldedItem.getOrCreateTag().putLong(TAG_FLUX_SHIELD, availableTime);
+        long gameTime = entity.level.getGameTime();
+        if (!getState().useCharge(gameTime)) {
+            return false;
+        }
+        saveState();
+        if (entity instanceof ServerPlayer player) {
+            ShieldRechargeScheduler.schedule(player, state.nextRechargeTime(gameTime));
+        }
         return true;
     }
 
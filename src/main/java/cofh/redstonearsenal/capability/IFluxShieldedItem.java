@@ -33,4 +33,13 @@ public interface IFluxShieldedItem {
      */
     boolean useCharge(LivingEntity entity);
 
+    /**
+     * @param entity Entity with the item equipped.
+     * @return Game time at which the next charge regenerates, or -1 if no charge is currently regenerating.
+     */
+    default long nextRechargeTime(LivingEntity entity) {
+
+        return -1;
+    }
+
 }
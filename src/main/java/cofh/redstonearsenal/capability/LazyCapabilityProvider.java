@@ -0,0 +1,45 @@
+package cofh.redstonearsenal.capability;
+
+import net.minecraft.core.Direction;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
+import net.minecraftforge.common.util.LazyOptional;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.function.Supplier;
+
+/**
+ * Item capability provider which only builds its wrapper on the first capability query.
+ * <p>
+ * Flux item stacks are created and copied far more often than their capabilities are used (container sync, rendering, entity pickup items),
+ * so most copies never need their energy wrapper at all.
+ */
+public class LazyCapabilityProvider implements ICapabilityProvider {
+
+    protected Supplier<? extends ICapabilityProvider> factory;
+    protected ICapabilityProvider provider;
+
+    public LazyCapabilityProvider(Supplier<? extends ICapabilityProvider> factory) {
+
+        this.factory = factory;
+    }
+
+    protected ICapabilityProvider getProvider() {
+
+        if (provider == null) {
+            provider = factory.get();
+            factory = null;
+        }
+        return provider;
+    }
+
+    // region ICapabilityProvider
+    @Override
+    @Nonnull
+    public <T> LazyOptional<T> getCapability(@Nonnull Capability<T> cap, @Nullable Direction side) {
+
+        return getProvider().getCapability(cap, side);
+    }
+    // endregion
+}
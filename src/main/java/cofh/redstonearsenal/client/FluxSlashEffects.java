@@ -0,0 +1,42 @@
+package cofh.redstonearsenal.client;
+
+import cofh.redstonearsenal.entity.FluxSlash;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Client-side Flux Slashes for slashes simulated on the server. These are local entities with negative ids, which the server never refers to.
+ */
+public class FluxSlashEffects {
+
+    private static int nextId = -1;
+
+    private FluxSlashEffects() {
+
+    }
+
+    public static void spawnSlash(int ownerId, Vec3 pos, Vec3 motion, float xRot, float yRot, int duration) {
+
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) {
+            return;
+        }
+        FluxSlash slash = new FluxSlash(level, pos.x(), pos.y(), pos.z());
+        Entity owner = ownerId < 0 ? null : level.getEntity(ownerId);
+        if (owner != null) {
+            slash.setOwner(owner);
+        }
+        slash.setDeltaMovement(motion);
+        slash.setXRot(xRot);
+        slash.setYRot(yRot);
+        slash.xRotO = xRot;
+        slash.yRotO = yRot;
+        slash.duration = duration;
+        slash.setId(nextId);
+        nextId = nextId == Integer.MIN_VALUE ? -1 : nextId - 1;
+        level.putNonPlayerEntity(slash.getId(), slash);
+    }
+
+}
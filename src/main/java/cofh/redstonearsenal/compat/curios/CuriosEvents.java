@@ -0,0 +1,24 @@
+package cofh.redstonearsenal.compat.curios;
+
+import cofh.redstonearsenal.util.FluxShieldingHelper;
+import net.minecraftforge.common.MinecraftForge;
+import top.theillusivec4.curios.api.event.CurioChangeEvent;
+
+public class CuriosEvents {
+
+    private CuriosEvents() {
+
+    }
+
+    public static void register() {
+
+        MinecraftForge.EVENT_BUS.addListener(CuriosEvents::handleCurioChangeEvent);
+    }
+
+    private static void handleCurioChangeEvent(CurioChangeEvent event) {
+
+        // Flux Shielding
+        FluxShieldingHelper.invalidateShieldedItems(event.getEntity());
+    }
+
+}
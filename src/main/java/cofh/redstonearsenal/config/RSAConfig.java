@@ -6,6 +6,7 @@ import net.minecraftforge.common.ForgeConfigSpec;
 import java.util.function.Supplier;
 
 import static cofh.lib.util.Constants.FALSE;
+import static cofh.lib.util.Constants.TRUE;
 
 public class RSAConfig implements IBaseConfig {
 
@@ -19,9 +20,39 @@ public class RSAConfig implements IBaseConfig {
                 .define("Standalone Redstone Flux", boolStandaloneRedstoneFlux);
 
         builder.pop();
+
+        builder.push("Tools");
+
+        areaEffectBlocksPerTick = builder
+                .comment("The maximum number of blocks an area effect tool will break in a single tick. Larger areas are broken over several ticks. Set to 0 to break every block at once.")
+                .defineInRange("Area Effect Blocks Per Tick", 32, 0, 4096);
+
+        glowAirPerChunk = builder
+                .comment("The maximum number of Flux Glow Air blocks an empowered Flux-Infused Pickaxe will place on its own in a single chunk. Set to 0 for no limit.")
+                .defineInRange("Flux Glow Air Per Chunk", 48, 0, 4096);
+
+        simulateFluxSlashes = builder
+                .comment("If TRUE, Flux Slashes from an empowered Flux-Infused Sword are simulated on the server instead of being spawned as entities. Clients are sent a single packet per slash and draw it locally.")
+                .define("Simulate Flux Slashes", true);
+
+        fluxArrowsPerShooter = builder
+                .comment("The maximum number of Flux Arrows a single shooter may have in a world at once. When the limit is reached, their oldest arrow is removed. Set to 0 for no limit.")
+                .defineInRange("Flux Arrows Per Shooter", 64, 0, 4096);
+
+        wrenchBatchLimit = builder
+                .comment("The maximum number of connected blocks of the same type an empowered thrown Flux-Infused Wrench will wrench or rotate at once. Set to 1 to only affect the block that was hit.")
+                .defineInRange("Flux Wrench Batch Limit", 32, 1, 1024);
+
+        builder.pop();
     }
 
     // region CONFIG VARIABLES
     private Supplier<Boolean> boolStandaloneRedstoneFlux = FALSE;
+
+    public static Supplier<Integer> areaEffectBlocksPerTick = () -> 32;
+    public static Supplier<Integer> glowAirPerChunk = () -> 48;
+    public static Supplier<Boolean> simulateFluxSlashes = TRUE;
+    public static Supplier<Integer> fluxArrowsPerShooter = () -> 64;
+    public static Supplier<Integer> wrenchBatchLimit = () -> 32;
     // endregion
 }
@@ -2,6 +2,8 @@ package cofh.redstonearsenal.entity;
 
 import cofh.lib.util.helpers.MathHelper;
 import cofh.redstonearsenal.item.IFluxItem;
+import cofh.redstonearsenal.util.AoETargetHelper;
+import cofh.redstonearsenal.util.FluxArrowTracker;
 import com.google.common.collect.Lists;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import net.minecraft.advancements.CriteriaTriggers;
@@ -18,7 +20,6 @@ import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.Entity;
-import net.minecraft.world.entity.EntitySelector;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
@@ -31,6 +32,7 @@ import net.minecraftforge.network.NetworkHooks;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
+import java.util.UUID;
 
 import static cofh.redstonearsenal.init.RSAEntities.FLUX_ARROW;
 
@@ -41,6 +43,8 @@ public class FluxArrow extends AbstractArrow {
     protected static final int LIFESPAN = 200;
     protected static final float EXPLOSION_RANGE = 4.0F;
 
+    protected UUID trackedShooter;
+
     public FluxArrow(EntityType<? extends FluxArrow> entityIn, Level worldIn) {
 
         super(entityIn, worldIn);
@@ -105,21 +109,39 @@ public class FluxArrow extends AbstractArrow {
         if (!level.isClientSide()) {
             ((ServerLevel) level).sendParticles(ParticleTypes.EXPLOSION, this.getX(), this.getY(), this.getZ(), 1, 0, 0, 0, 0);
             level.playSound(null, this.getX(), this.getY(), this.getZ(), SoundEvents.GENERIC_EXPLODE, SoundSource.BLOCKS, 0.5F, (1.0F + (this.level.random.nextFloat() - this.level.random.nextFloat()) * 0.2F) * 0.7F);
-            double r2 = EXPLOSION_RANGE * EXPLOSION_RANGE;
             AABB searchArea = this.getBoundingBox().move(pos.subtract(this.position())).inflate(EXPLOSION_RANGE);
-            for (Entity target : level.getEntities(this, searchArea, EntitySelector.NO_CREATIVE_OR_SPECTATOR)) {
-                if (pos.distanceToSqr(target.getBoundingBox().getCenter()) < r2) {
-                    target.hurt(getDamageSource(this, getOwner()), (float) getBaseDamage());
-                }
+            for (Entity target : AoETargetHelper.getTargets(level, this, searchArea, AoETargetHelper.sphereBounds(pos, EXPLOSION_RANGE))) {
+                target.hurt(getDamageSource(this, getOwner()), (float) getBaseDamage());
             }
             discard();
         }
     }
 
+    @Override
+    public void onAddedToWorld() {
+
+        super.onAddedToWorld();
+        Entity owner = getOwner();
+        if (!level.isClientSide && owner != null && trackedShooter == null) {
+            trackedShooter = owner.getUUID();
+            FluxArrowTracker.onAdded(this, trackedShooter);
+        }
+    }
+
+    @Override
+    public void onRemovedFromWorld() {
+
+        super.onRemovedFromWorld();
+        if (trackedShooter != null) {
+            FluxArrowTracker.onRemoved(this, trackedShooter);
+            trackedShooter = null;
+        }
+    }
+
     @Override
     public void tick() {
 
-        if (!level.isClientSide() && tickCount > LIFESPAN) {
+        if (!level.isClientSide() && (tickCount > LIFESPAN || !inGround && FluxArrowTracker.shouldRetire(this))) {
             discard();
         } else {
             super.tick();
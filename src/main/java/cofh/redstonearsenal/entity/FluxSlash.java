@@ -71,7 +71,9 @@ public class FluxSlash extends Projectile {
     protected void onHitEntity(EntityHitResult result) {
 
         super.onHitEntity(result);
-        result.getEntity().hurt(IFluxItem.fluxRangedDamage(this, this.getOwner()), damage);
+        if (!level.isClientSide) {
+            result.getEntity().hurt(IFluxItem.fluxRangedDamage(this, this.getOwner()), damage);
+        }
     }
 
     @Override
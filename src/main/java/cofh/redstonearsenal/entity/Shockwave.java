@@ -3,17 +3,23 @@ package cofh.redstonearsenal.entity;
 import cofh.core.client.particle.options.CylindricalParticleOptions;
 import cofh.lib.entity.AbstractAoESpell;
 import cofh.lib.util.helpers.MathHelper;
+import cofh.redstonearsenal.util.AoETargetHelper;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
-import net.minecraft.world.entity.EntitySelector;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
+import java.util.function.Predicate;
+
 import static cofh.core.init.CoreMobEffects.SUNDERED;
 import static cofh.core.init.CoreParticles.SHOCKWAVE;
 import static cofh.redstonearsenal.init.RSAEntities.SHOCKWAVE_ENTITY;
@@ -25,6 +31,8 @@ public class Shockwave extends AbstractAoESpell {
     public float damage = 8.0F;
     public int debuffDuration = 100;
 
+    protected final IntSet hitEntities = new IntOpenHashSet();
+
     public Shockwave(EntityType<? extends Shockwave> type, Level world) {
 
         super(type, world);
@@ -68,31 +76,27 @@ public class Shockwave extends AbstractAoESpell {
         boolean hitSomething = false;
         float lower = Math.max((tickCount - 1) * speed, 0);
         float upper = lower + speed * 1.5F;
-        float lowerSqr = lower * lower;
-        float upperSqr = upper * upper;
-        for (LivingEntity entity : level.getEntitiesOfClass(LivingEntity.class, this.getBoundingBox().inflate(upper + 1, 2, upper + 1).inflate(0.5), EntitySelector.NO_CREATIVE_OR_SPECTATOR)) {
-            if (!entity.equals(this.owner)) {
-                Vec3 relPos = new Vec3(entity.getX() - this.getX(), 0, entity.getZ() - this.getZ());
-                double distSqr = relPos.lengthSqr();
-                if (lowerSqr < distSqr && distSqr < upperSqr) {
-                    float falloff = (duration - (tickCount * 0.5F)) / duration;
-                    DamageSource source;
-                    if (this.owner instanceof Player) {
-                        source = DamageSource.playerAttack((Player) this.owner);
-                    } else {
-                        source = DamageSource.mobAttack(this.owner);
-                    }
-                    if (entity.hurt(source, damage * falloff)) {
-                        hitSomething = true;
-                        entity.addEffect(new MobEffectInstance(SUNDERED.get(), debuffDuration, 0, false, false));
-                        entity.knockback(0.8F, -relPos.x(), -relPos.z());
-                        //Vector3d knockback = relPos.scale(0.8 / MathHelper.sqrt(distSqr)).add(0, 0.3, 0).scale(1.0D - entity.getAttributeValue(Attributes.KNOCKBACK_RESISTANCE));
-                        //entity.setDeltaMovement(knockback);
-                    }
-                }
+        AABB bounds = getBoundingBox().inflate(0, 2.5, 0);
+        AABB area = new AABB(getX() - upper, bounds.minY, getZ() - upper, getX() + upper, bounds.maxY, getZ() + upper);
+        Predicate<Entity> band = AoETargetHelper.annulus(position(), lower, upper);
+        for (LivingEntity entity : AoETargetHelper.getTargets(level, LivingEntity.class, owner, area, e -> !hitEntities.contains(e.getId()) && band.test(e))) {
+            Vec3 relPos = new Vec3(entity.getX() - this.getX(), 0, entity.getZ() - this.getZ());
+            float falloff = (duration - (tickCount * 0.5F)) / duration;
+            DamageSource source;
+            if (this.owner instanceof Player) {
+                source = DamageSource.playerAttack((Player) this.owner);
+            } else {
+                source = DamageSource.mobAttack(this.owner);
+            }
+            if (entity.hurt(source, damage * falloff)) {
+                hitSomething = true;
+                hitEntities.add(entity.getId());
+                entity.addEffect(new MobEffectInstance(SUNDERED.get(), debuffDuration, 0, false, false));
+                entity.knockback(0.8F, -relPos.x(), -relPos.z());
+                //Vector3d knockback = relPos.scale(0.8 / MathHelper.sqrt(distSqr)).add(0, 0.3, 0).scale(1.0D - entity.getAttributeValue(Attributes.KNOCKBACK_RESISTANCE));
+                //entity.setDeltaMovement(knockback);
             }
         }
         return hitSomething;
     }
-
 }
@@ -37,6 +37,7 @@ public class ThrownFluxTrident extends AbstractArrow {
 
     protected static final EntityDataAccessor<Byte> ID_LOYALTY = SynchedEntityData.defineId(ThrownFluxTrident.class, EntityDataSerializers.BYTE);
     protected static final EntityDataAccessor<Boolean> ID_FOIL = SynchedEntityData.defineId(ThrownFluxTrident.class, EntityDataSerializers.BOOLEAN);
+    protected static final EntityDataAccessor<Boolean> ID_EMPOWERED = SynchedEntityData.defineId(ThrownFluxTrident.class, EntityDataSerializers.BOOLEAN);
 
     protected ItemStack tridentItem = new ItemStack(ITEMS.get(ID_FLUX_TRIDENT));
     protected boolean dealtDamage;
@@ -53,6 +54,7 @@ public class ThrownFluxTrident extends AbstractArrow {
         this.tridentItem = stack.copy();
         this.entityData.set(ID_LOYALTY, (byte) EnchantmentHelper.getLoyalty(stack));
         this.entityData.set(ID_FOIL, stack.hasFoil());
+        this.entityData.set(ID_EMPOWERED, isEmpowered(stack));
     }
 
     public ThrownFluxTrident(Level world, double x, double y, double z) {
@@ -66,6 +68,7 @@ public class ThrownFluxTrident extends AbstractArrow {
         super.defineSynchedData();
         this.entityData.define(ID_LOYALTY, (byte) 0);
         this.entityData.define(ID_FOIL, false);
+        this.entityData.define(ID_EMPOWERED, false);
     }
 
     @Override
@@ -74,9 +77,17 @@ public class ThrownFluxTrident extends AbstractArrow {
         return NetworkHooks.getEntitySpawningPacket(this);
     }
 
+    /**
+     * Synced, as the trident stack itself is only known to the server.
+     */
     public boolean isEmpowered() {
 
-        return ((FluxTridentItem) tridentItem.getItem()).isEmpowered(tridentItem);
+        return this.entityData.get(ID_EMPOWERED);
+    }
+
+    protected static boolean isEmpowered(ItemStack stack) {
+
+        return stack.getItem() instanceof FluxTridentItem trident && trident.isEmpowered(stack);
     }
 
     @Override
@@ -217,6 +228,7 @@ public class ThrownFluxTrident extends AbstractArrow {
         }
         this.dealtDamage = nbt.getBoolean("DealtDamage");
         this.entityData.set(ID_LOYALTY, (byte) EnchantmentHelper.getLoyalty(this.tridentItem));
+        this.entityData.set(ID_EMPOWERED, isEmpowered(this.tridentItem));
     }
 
     @Override
@@ -7,6 +7,7 @@ import cofh.redstonearsenal.item.FluxWrenchItem;
 import cofh.redstonearsenal.item.IFluxItem;
 import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Registry;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
@@ -40,12 +41,22 @@ import net.minecraftforge.entity.IEntityAdditionalSpawnData;
 import net.minecraftforge.event.ForgeEventFactory;
 import net.minecraftforge.network.NetworkHooks;
 
+import static cofh.lib.util.constants.NBTTags.TAG_ENERGY;
 import static cofh.redstonearsenal.init.RSAEntities.FLUX_WRENCH;
 import static cofh.redstonearsenal.init.RSAIDs.ID_FLUX_WRENCH;
 
 public class ThrownFluxWrench extends Projectile implements IEntityAdditionalSpawnData {
 
-    protected static final EntityDataAccessor<ItemStack> DATA_ITEM_STACK = SynchedEntityData.defineId(ThrownFluxWrench.class, EntityDataSerializers.ITEM_STACK);
+    protected static final EntityDataAccessor<Byte> DATA_FLAGS = SynchedEntityData.defineId(ThrownFluxWrench.class, EntityDataSerializers.BYTE);
+
+    public static final byte FLAG_EMPOWERED = 1;
+    public static final byte FLAG_FOIL = 2;
+    public static final byte FLAG_CHARGED = 4;
+    public static final byte FLAG_TELEPORT = 8;
+
+    // Server-side, the thrown stack. Client-side, a display stack built from the synced flags.
+    protected ItemStack wrenchItem = ItemStack.EMPTY;
+    protected Item displayItem;
 
     public float speed = 1.5F;
     public float range = 16.0F;
@@ -73,7 +84,16 @@ public class ThrownFluxWrench extends Projectile implements IEntityAdditionalSpa
     @Override
     protected void defineSynchedData() {
 
-        this.getEntityData().define(DATA_ITEM_STACK, new ItemStack(getDefaultItem()));
+        this.getEntityData().define(DATA_FLAGS, (byte) 0);
+    }
+
+    @Override
+    public void onSyncedDataUpdated(EntityDataAccessor<?> key) {
+
+        super.onSyncedDataUpdated(key);
+        if (level.isClientSide && DATA_FLAGS.equals(key)) {
+            wrenchItem = ItemStack.EMPTY;
+        }
     }
 
     @Override
@@ -89,26 +109,78 @@ public class ThrownFluxWrench extends Projectile implements IEntityAdditionalSpa
 
     protected ItemStack getItemRaw() {
 
-        return this.getEntityData().get(DATA_ITEM_STACK);
+        return wrenchItem;
     }
 
+    /**
+     * Server-side, the thrown stack. Client-side, a stack which only looks like it: the real stack, with its energy and enchantments, is
+     * never sent to clients.
+     */
     public ItemStack getItem() {
 
-        ItemStack itemstack = this.getItemRaw();
-        return itemstack.isEmpty() ? new ItemStack(this.getDefaultItem()) : itemstack;
+        if (wrenchItem.isEmpty()) {
+            wrenchItem = level.isClientSide ? createDisplayItem() : new ItemStack(this.getDefaultItem());
+        }
+        return wrenchItem;
     }
 
     public void setItem(ItemStack stack) {
 
-        if (stack.getItem() != this.getDefaultItem() || stack.hasTag()) {
-            this.getEntityData().set(DATA_ITEM_STACK, Util.make(stack.copy(), (itemStack) -> itemStack.setCount(1)));
+        this.wrenchItem = Util.make(stack.copy(), (itemStack) -> itemStack.setCount(1));
+        updateFlags();
+    }
+
+    /**
+     * Syncs the parts of the thrown stack that clients need for rendering and prediction. Only sends an update if one of them has changed.
+     */
+    protected void updateFlags() {
+
+        ItemStack stack = this.wrenchItem;
+        if (stack.getItem() instanceof FluxWrenchItem wrench) {
+            this.getEntityData().set(DATA_FLAGS, (byte) ((wrench.isEmpowered(stack) ? FLAG_EMPOWERED : 0)
+                    | (stack.hasFoil() ? FLAG_FOIL : 0)
+                    | (wrench.hasEnergy(stack, false) ? FLAG_CHARGED : 0)
+                    | (Utils.isCreativePlayer(getOwner()) || wrench.hasEnergy(stack, true) ? FLAG_TELEPORT : 0)));
+        }
+    }
+
+    protected ItemStack createDisplayItem() {
+
+        ItemStack stack = new ItemStack(displayItem == null ? getDefaultItem() : displayItem);
+        if (stack.getItem() instanceof FluxWrenchItem wrench) {
+            if (hasFlag(FLAG_CHARGED)) {
+                stack.getOrCreateTag().putInt(TAG_ENERGY, wrench.getEnergyPerUse(false));
+            }
+            if (hasFlag(FLAG_EMPOWERED)) {
+                wrench.setMode(stack, 1);
+            }
         }
+        if (hasFlag(FLAG_FOIL)) {
+            stack.enchant(Enchantments.UNBREAKING, 1);
+        }
+        return stack;
+    }
+
+    protected boolean hasFlag(byte flag) {
+
+        return (this.getEntityData().get(DATA_FLAGS) & flag) != 0;
     }
 
     public boolean isEmpowered() {
 
-        ItemStack stack = this.getItem();
-        return ((FluxWrenchItem) stack.getItem()).isEmpowered(stack);
+        return hasFlag(FLAG_EMPOWERED);
+    }
+
+    /**
+     * Uses empowered energy from the thrown stack. Client-side, predicts the result from the synced teleport flag, which the server computes
+     * from the same energy and creative checks.
+     */
+    protected boolean useEmpoweredEnergy(Entity owner) {
+
+        if (level.isClientSide) {
+            return hasFlag(FLAG_TELEPORT);
+        }
+        return wrenchItem.getItem() instanceof FluxWrenchItem wrench && wrench.useEnergy(wrenchItem, true, owner);
     }
 
     @Override
@@ -128,8 +200,7 @@ public class ThrownFluxWrench extends Projectile implements IEntityAdditionalSpa
             Vec3 relPos = owner.getEyePosition(0).subtract(this.position());
             double distance = relPos.length();
             if (distance > range) {
-                ItemStack stack = getItem();
-                if (isEmpowered() && stack.getItem() instanceof FluxWrenchItem wrench && wrench.useEnergy(stack, true, owner)) {
+                if (isEmpowered() && useEmpoweredEnergy(owner)) {
                     teleportEffects(owner);
                     returnToInventory(owner);
                     return;
@@ -202,8 +273,7 @@ public class ThrownFluxWrench extends Projectile implements IEntityAdditionalSpa
             Entity owner = this.getOwner();
             if (owner != null) {
                 Vec3 pos = position();
-                ItemStack stack = getItem();
-                if (isEmpowered() && stack.getItem() instanceof FluxWrenchItem wrench && wrench.useEnergy(stack, true, owner)) {
+                if (isEmpowered() && useEmpoweredEnergy(owner)) {
                     teleportEffects(owner);
                     returnToInventory(owner);
                 } else {
@@ -224,6 +294,10 @@ public class ThrownFluxWrench extends Projectile implements IEntityAdditionalSpa
 
     protected void returnToInventory(Entity owner) {
 
+        // The server removes the wrench; the client copy waits for that to sync.
+        if (level.isClientSide) {
+            return;
+        }
         if (!(owner instanceof Player player && player.inventory.add(this.getItem()))) {
             level.addFreshEntity(new ItemEntity(level, owner.getX(), owner.getY(), owner.getZ(), this.getItem()));
         }
@@ -279,6 +353,7 @@ public class ThrownFluxWrench extends Projectile implements IEntityAdditionalSpa
                     target.setSecondsOnFire(Math.max(this.isOnFire() ? 5 : 0, fireAspect * 4));
                 }
             }
+            updateFlags();
         }
         onHit(result);
     }
@@ -311,6 +386,7 @@ public class ThrownFluxWrench extends Projectile implements IEntityAdditionalSpa
         ItemStack stack = this.getItem();
         if (owner instanceof Player && stack.getItem() instanceof FluxWrenchItem wrench) {
             wrench.useRanged(level, stack, (Player) owner, result);
+            updateFlags();
         }
         onHit(result);
     }
@@ -342,6 +418,7 @@ public class ThrownFluxWrench extends Projectile implements IEntityAdditionalSpa
 
         Entity owner = this.getOwner();
         buffer.writeInt(owner == null ? -1 : owner.getId());
+        buffer.writeId(Registry.ITEM, getItem().getItem());
     }
 
     @Override
@@ -351,6 +428,8 @@ public class ThrownFluxWrench extends Projectile implements IEntityAdditionalSpa
         if (id >= 0) {
             setOwner(level.getEntity(id));
         }
+        displayItem = additionalData.readById(Registry.ITEM);
+        wrenchItem = ItemStack.EMPTY;
     }
 
 }
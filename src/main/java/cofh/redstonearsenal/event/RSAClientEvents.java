@@ -6,6 +6,8 @@ import cofh.redstonearsenal.item.FluxCrossbowItem;
 import cofh.redstonearsenal.item.FluxSickleItem;
 import cofh.redstonearsenal.item.FluxSwordItem;
 import cofh.redstonearsenal.item.FluxTridentItem;
+import cofh.redstonearsenal.util.FluxElytraFlight;
+import cofh.redstonearsenal.util.FluxInventoryTicker;
 import cofh.redstonearsenal.util.FluxShieldingHelper;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.player.LocalPlayer;
@@ -14,6 +16,7 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.phys.HitResult;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.client.event.InputEvent.InteractionKeyMappingTriggered;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
@@ -72,12 +75,21 @@ public class RSAClientEvents {
         // Flux Shielding
         if (event.phase == TickEvent.Phase.END && ProxyUtils.isClient()) {
             LocalPlayer player = Minecraft.getInstance().player;
-            if (player != null && (player.level.getGameTime() & 7) == 0) {
-                FluxShieldingHelper.updateHUD(player);
+            if (player != null) {
+                FluxShieldingHelper.tickHUD(player.level.getGameTime());
             }
         }
     }
 
+    @SubscribeEvent
+    public static void handleLoggingOutEvent(ClientPlayerNetworkEvent.LoggingOut event) {
+
+        // Flux Items
+        FluxInventoryTicker.clearClient();
+        // Flux Elytra
+        FluxElytraFlight.clearClient();
+    }
+
 
     //@SubscribeEvent
     //public static void renderHandEvent(RenderHandEvent event) {
@@ -1,11 +1,22 @@
 package cofh.redstonearsenal.event;
 
 import cofh.core.util.helpers.AreaEffectHelper;
+import cofh.redstonearsenal.capability.FluxGlowAirChunkData;
 import cofh.redstonearsenal.item.FluxArmorItem;
 import cofh.redstonearsenal.item.FluxShovelItem;
 import cofh.redstonearsenal.item.FluxSickleItem;
 import cofh.redstonearsenal.item.FluxTridentItem;
+import cofh.redstonearsenal.util.AoETargetHelper;
+import cofh.redstonearsenal.util.ArmorEnergyLedger;
+import cofh.redstonearsenal.util.AreaEffectScheduler;
+import cofh.redstonearsenal.util.FluxArrowTracker;
+import cofh.redstonearsenal.util.FluxElytraFlight;
+import cofh.redstonearsenal.util.FluxInventoryTicker;
 import cofh.redstonearsenal.util.FluxShieldingHelper;
+import cofh.redstonearsenal.util.FluxSlashSimulator;
+import cofh.redstonearsenal.util.GlowAirPlanner;
+import cofh.redstonearsenal.util.ShieldRechargeScheduler;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.EquipmentSlot;
@@ -15,9 +26,14 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.common.ToolAction;
 import net.minecraftforge.common.ToolActions;
+import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
 import net.minecraftforge.event.entity.living.LivingAttackEvent;
+import net.minecraftforge.event.entity.living.LivingDeathEvent;
 import net.minecraftforge.event.entity.living.LivingEquipmentChangeEvent;
 import net.minecraftforge.event.entity.living.LivingFallEvent;
 import net.minecraftforge.event.entity.living.LivingHurtEvent;
@@ -25,17 +41,30 @@ import net.minecraftforge.event.entity.player.AttackEntityEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerFlyableFallEvent;
 import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
 import static cofh.lib.util.constants.ModIds.ID_REDSTONE_ARSENAL;
+import static cofh.redstonearsenal.init.RSAIDs.ID_FLUX_GLOW_AIR;
 import static cofh.redstonearsenal.init.RSABlocks.FLUX_PATH;
 import static net.minecraft.world.entity.EquipmentSlot.MAINHAND;
 
 @Mod.EventBusSubscriber (modid = ID_REDSTONE_ARSENAL)
 public class RSAEvents {
 
+    private static final int HUD_POLL_INTERVAL = 20;
+
+    @SubscribeEvent
+    public static void handleAttachChunkCapabilitiesEvent(AttachCapabilitiesEvent<LevelChunk> event) {
+
+        // Flux Glow Air
+        if (!event.getObject().getLevel().isClientSide) {
+            event.addCapability(new ResourceLocation(ID_REDSTONE_ARSENAL, ID_FLUX_GLOW_AIR), new FluxGlowAirChunkData());
+        }
+    }
+
     @SubscribeEvent (priority = EventPriority.LOWEST)
     public static void handleAttackEntityEvent(AttackEntityEvent event) {
 
@@ -89,6 +118,10 @@ public class RSAEvents {
         ItemStack from = event.getFrom();
         ItemStack to = event.getTo();
         LivingEntity entity = event.getEntity();
+        // Flux Shielding
+        if (event.getSlot().getType() == EquipmentSlot.Type.ARMOR) {
+            FluxShieldingHelper.invalidateShieldedItems(entity);
+        }
         //Flux Trident
         if (event.getSlot().equals(MAINHAND) && entity.isAutoSpinAttack()
                 && from.getItem() instanceof FluxTridentItem && !(to.getItem() instanceof FluxTridentItem)) {
@@ -96,6 +129,87 @@ public class RSAEvents {
         }
     }
 
+    @SubscribeEvent
+    public static void handlePlayerTickEvent(TickEvent.PlayerTickEvent event) {
+
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+        // Flux Items
+        FluxInventoryTicker.tick(event.player);
+        // Flux Shielding
+        if (event.player instanceof ServerPlayer player && player.tickCount % HUD_POLL_INTERVAL == 0) {
+            FluxShieldingHelper.updateHUD(player);
+        }
+    }
+
+    @SubscribeEvent
+    public static void handlePlayerLoggedOutEvent(PlayerEvent.PlayerLoggedOutEvent event) {
+
+        // Flux Elytra
+        FluxElytraFlight.land(event.getEntity());
+    }
+
+    @SubscribeEvent
+    public static void handlePlayerChangedDimensionEvent(PlayerEvent.PlayerChangedDimensionEvent event) {
+
+        // Flux Elytra
+        FluxElytraFlight.land(event.getEntity());
+    }
+
+    @SubscribeEvent (priority = EventPriority.LOWEST)
+    public static void handleLivingDeathEvent(LivingDeathEvent event) {
+
+        if (event.isCanceled()) {
+            return;
+        }
+        // Flux Elytra
+        FluxElytraFlight.land(event.getEntity());
+    }
+
+    @SubscribeEvent
+    public static void handleServerTickEvent(TickEvent.ServerTickEvent event) {
+
+        if (event.phase != TickEvent.Phase.END) {
+            return;
+        }
+        // Area Effect Tools
+        AreaEffectScheduler.tick();
+        // Flux Armor
+        ArmorEnergyLedger.commit();
+        // Flux Shielding
+        ShieldRechargeScheduler.tick();
+        // Flux Sword
+        FluxSlashSimulator.tick();
+        // Flux Pickaxe
+        GlowAirPlanner.flush();
+        // Area Attacks
+        AoETargetHelper.clear();
+    }
+
+    @SubscribeEvent (priority = EventPriority.LOWEST)
+    public static void handleEntityJoinLevelEvent(EntityJoinLevelEvent event) {
+
+        // Area Attacks
+        if (!event.isCanceled()) {
+            AoETargetHelper.invalidate(event.getLevel());
+        }
+    }
+
+    @SubscribeEvent
+    public static void handleServerStoppedEvent(ServerStoppedEvent event) {
+
+        AreaEffectScheduler.clear();
+        AoETargetHelper.clear();
+        FluxSlashSimulator.clear();
+        FluxArrowTracker.clear();
+        FluxElytraFlight.clear();
+        FluxInventoryTicker.clear();
+        ArmorEnergyLedger.clear();
+        ShieldRechargeScheduler.clear();
+        GlowAirPlanner.clear();
+    }
+
     @SubscribeEvent (priority = EventPriority.HIGHEST)
     public static void handleBreakSpeedEvent(PlayerEvent.BreakSpeed event) {
 
@@ -113,6 +227,13 @@ public class RSAEvents {
         });
     }
 
+    @SubscribeEvent (priority = EventPriority.HIGHEST)
+    public static void handleBreakEvent(BlockEvent.BreakEvent event) {
+
+        // Area Effect Tools
+        AreaEffectScheduler.onBreakBlock(event.getPlayer(), event.getPos());
+    }
+
     @SubscribeEvent (priority = EventPriority.LOWEST)
     public static void handleBlockToolModificationEvent(BlockEvent.BlockToolModificationEvent event) {
 
@@ -172,8 +293,7 @@ public class RSAEvents {
             ItemStack helmet = target.getItemBySlot(EquipmentSlot.HEAD);
             float damage = Math.max(0.5F, amount * 0.25F);
             if (helmet.getItem() instanceof FluxArmorItem armor) {
-                int use = Math.min((int) (damage * armor.getEnergyPerUse(false)), armor.getEnergyStored(helmet));
-                armor.useEnergy(helmet, use, target);
+                ArmorEnergyLedger.drain(target, helmet, armor, EquipmentSlot.HEAD, (int) (damage * armor.getEnergyPerUse(false)));
             }
         }
     }
@@ -201,12 +321,14 @@ public class RSAEvents {
             }
         } else if (!source.isBypassArmor()) { // Flux Armor Damage
             float damage = Math.max(0.5F, amount * 0.25F);
-            target.getArmorSlots().forEach(stack -> {
-                if (stack.getItem() instanceof FluxArmorItem armor) {
-                    int use = Math.min((int) (damage * armor.getEnergyPerUse(false)), armor.getEnergyStored(stack));
-                    armor.useEnergy(stack, use, target);
+            for (EquipmentSlot slot : EquipmentSlot.values()) {
+                if (slot.getType() == EquipmentSlot.Type.ARMOR) {
+                    ItemStack stack = target.getItemBySlot(slot);
+                    if (stack.getItem() instanceof FluxArmorItem armor) {
+                        ArmorEnergyLedger.drain(target, stack, armor, slot, (int) (damage * armor.getEnergyPerUse(false)));
+                    }
                 }
-            });
+            }
         }
     }
 
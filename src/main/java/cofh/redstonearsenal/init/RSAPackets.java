@@ -1,16 +1,19 @@
 package cofh.redstonearsenal.init;
 
 import cofh.redstonearsenal.network.client.FluxShieldingPacket;
+import cofh.redstonearsenal.network.client.FluxSlashPacket;
 
 import static cofh.redstonearsenal.RedstoneArsenal.PACKET_HANDLER;
 
 public class RSAPackets {
 
     public static final int PACKET_FLUX_SHIELDING = 1;
+    public static final int PACKET_FLUX_SLASH = 2;
 
     public static void register() {
 
         PACKET_HANDLER.registerPacket(PACKET_FLUX_SHIELDING, FluxShieldingPacket::new);
+        PACKET_HANDLER.registerPacket(PACKET_FLUX_SLASH, FluxSlashPacket::new);
     }
 
 }
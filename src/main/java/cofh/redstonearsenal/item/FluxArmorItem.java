@@ -4,6 +4,7 @@ import cofh.core.config.CoreClientConfig;
 import cofh.core.item.ArmorItemCoFH;
 import cofh.core.util.ProxyUtils;
 import cofh.redstonearsenal.capability.FluxShieldedEnergyItemWrapper;
+import cofh.redstonearsenal.capability.LazyCapabilityProvider;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 import net.minecraft.ChatFormatting;
@@ -63,7 +64,7 @@ public class FluxArmorItem extends ArmorItemCoFH implements IFluxItem {
     @Override
     public ICapabilityProvider initCapabilities(ItemStack stack, @Nullable CompoundTag nbt) {
 
-        return new FluxShieldedEnergyItemWrapper(stack, getEnergyPerUse(true));
+        return new LazyCapabilityProvider(() -> new FluxShieldedEnergyItemWrapper(stack, getEnergyPerUse(true)));
     }
 
     @Override
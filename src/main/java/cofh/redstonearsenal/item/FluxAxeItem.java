@@ -9,8 +9,12 @@ import cofh.lib.api.item.IEnergyContainerItem;
 import cofh.lib.energy.EnergyContainerItemWrapper;
 import cofh.lib.item.AxeItemCoFH;
 import cofh.lib.util.Utils;
-import com.google.common.collect.HashMultimap;
+import cofh.redstonearsenal.capability.LazyCapabilityProvider;
+import cofh.redstonearsenal.util.AreaEffectCache;
+import cofh.redstonearsenal.util.AreaEffectScheduler;
+import cofh.redstonearsenal.util.AttributeModifierCache;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 import net.minecraft.ChatFormatting;
 import net.minecraft.advancements.CriteriaTriggers;
@@ -58,6 +62,8 @@ public class FluxAxeItem extends AxeItemCoFH implements IMultiModeFluxItem {
     protected final int extract;
     protected final int receive;
 
+    protected final AttributeModifierCache modifiers = new AttributeModifierCache(this::createAttributeModifiers);
+
     public FluxAxeItem(Tier tier, float attackDamageIn, float attackSpeedIn, Properties builder, int energy, int xfer) {
 
         super(tier, attackDamageIn, attackSpeedIn, builder);
@@ -123,7 +129,7 @@ public class FluxAxeItem extends AxeItemCoFH implements IMultiModeFluxItem {
     @Override
     public ICapabilityProvider initCapabilities(ItemStack stack, @Nullable CompoundTag nbt) {
 
-        return new FluxAxeItemWrapper(stack, this);
+        return new LazyCapabilityProvider(() -> new FluxAxeItemWrapper(stack, this));
     }
 
     @Override
@@ -143,7 +149,7 @@ public class FluxAxeItem extends AxeItemCoFH implements IMultiModeFluxItem {
     public boolean mineBlock(ItemStack stack, Level level, BlockState state, BlockPos pos, LivingEntity living) {
 
         if (Utils.isServerWorld(level) && state.getDestroySpeed(level, pos) != 0.0F) {
-            useEnergy(stack, false, living);
+            AreaEffectScheduler.useEnergy(this, stack, living);
         }
         return true;
     }
@@ -163,12 +169,15 @@ public class FluxAxeItem extends AxeItemCoFH implements IMultiModeFluxItem {
     @Override
     public Multimap<Attribute, AttributeModifier> getAttributeModifiers(EquipmentSlot slot, ItemStack stack) {
 
-        Multimap<Attribute, AttributeModifier> multimap = HashMultimap.create();
-        if (slot == EquipmentSlot.MAINHAND) {
-            multimap.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Tool modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
-            multimap.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Tool modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
-        }
-        return multimap;
+        return slot == EquipmentSlot.MAINHAND ? modifiers.get(stack, this) : ImmutableMultimap.of();
+    }
+
+    protected Multimap<Attribute, AttributeModifier> createAttributeModifiers(ItemStack stack) {
+
+        ImmutableMultimap.Builder<Attribute, AttributeModifier> builder = ImmutableMultimap.builder();
+        builder.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Tool modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
+        builder.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Tool modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
+        return builder.build();
     }
 
     protected float getAttackDamage(ItemStack stack) {
@@ -230,6 +239,7 @@ public class FluxAxeItem extends AxeItemCoFH implements IMultiModeFluxItem {
     protected class FluxAxeItemWrapper extends EnergyContainerItemWrapper implements IAreaEffectItem {
 
         private final LazyOptional<IAreaEffectItem> holder = LazyOptional.of(() -> this);
+        private final AreaEffectCache areaCache = new AreaEffectCache();
 
         FluxAxeItemWrapper(ItemStack containerIn, IEnergyContainerItem itemIn) {
 
@@ -239,9 +249,13 @@ public class FluxAxeItem extends AxeItemCoFH implements IMultiModeFluxItem {
         @Override
         public ImmutableList<BlockPos> getAreaEffectBlocks(BlockPos pos, Player player) {
 
-            if (isEmpowered(container) && hasEnergy(container, false)) {
+            if (isEmpowered(container) && hasEnergy(container, false) && !AreaEffectScheduler.isHarvesting(player)) {
                 int range = Math.min(getRange(container), getEnergyStored() / getEnergyPerUse(false) - 1);
-                return AreaEffectHelper.getBreakableWoodenBlocksVertical(container, pos, player, range);
+                ImmutableList<BlockPos> blocks = areaCache.get(pos, player, range);
+                if (blocks == null) {
+                    blocks = areaCache.put(AreaEffectHelper.getBreakableWoodenBlocksVertical(container, pos, player, range));
+                }
+                return AreaEffectScheduler.schedule(container, pos, player, blocks);
             }
             return ImmutableList.of();
         }
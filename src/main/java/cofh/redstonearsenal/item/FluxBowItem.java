@@ -11,8 +11,11 @@ import cofh.lib.api.capability.IArcheryBowItem;
 import cofh.lib.energy.EnergyContainerItemWrapper;
 import cofh.lib.util.Utils;
 import cofh.lib.util.helpers.MathHelper;
+import cofh.redstonearsenal.capability.LazyCapabilityProvider;
+import cofh.redstonearsenal.entity.FluxArrow;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.nbt.CompoundTag;
@@ -24,11 +27,17 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.stats.Stats;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResultHolder;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.projectile.AbstractArrow;
+import net.minecraft.world.entity.projectile.Arrow;
+import net.minecraft.world.entity.projectile.SpectralArrow;
 import net.minecraft.world.item.*;
+import net.minecraft.world.level.ClipContext;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
@@ -87,7 +96,7 @@ public class FluxBowItem extends BowItemCoFH implements IMultiModeFluxItem {
     @Override
     public ICapabilityProvider initCapabilities(ItemStack stack, @Nullable CompoundTag nbt) {
 
-        return new FluxBowItemWrapper(stack, this);
+        return new LazyCapabilityProvider(() -> new FluxBowItemWrapper(stack, this));
     }
 
     public float getPullModelProperty(ItemStack stack, Level world, LivingEntity entity, int seed) {
@@ -108,6 +117,29 @@ public class FluxBowItem extends BowItemCoFH implements IMultiModeFluxItem {
         return InteractionResultHolder.fail(stack);
     }
 
+    // region ARROW TRAJECTORY
+    protected static final int SEGMENT_TICKS = 8;
+    // Float literals, as in the arrow's own tick, so the closed form matches stepped arrows exactly.
+    protected static final double ARROW_DRAG = 0.99F;
+    protected static final double ARROW_GRAVITY = 0.05F;
+
+    /**
+     * Position of an airborne arrow after the given number of ticks. Each tick the arrow moves by its velocity, which is then scaled by the
+     * drag and reduced by gravity; summing that geometric series gives the closed form.
+     */
+    public static Vec3 getArrowPosition(Vec3 start, Vec3 motion, double gravity, int ticks) {
+
+        double sum = (1.0D - Math.pow(ARROW_DRAG, ticks)) / (1.0D - ARROW_DRAG);
+        return start.add(motion.scale(sum)).subtract(0, gravity * (ticks - sum) / (1.0D - ARROW_DRAG), 0);
+    }
+
+    public static Vec3 getArrowVelocity(Vec3 motion, double gravity, int ticks) {
+
+        double decay = Math.pow(ARROW_DRAG, ticks);
+        return motion.scale(decay).subtract(0, gravity * (1.0D - decay) / (1.0D - ARROW_DRAG), 0);
+    }
+    // endregion
+
     // region DURABILITY BAR
     @Override
     public boolean isBarVisible(ItemStack stack) {
@@ -152,9 +184,6 @@ public class FluxBowItem extends BowItemCoFH implements IMultiModeFluxItem {
     protected class FluxBowItemWrapper extends EnergyContainerItemWrapper implements IArcheryBowItem {
 
         private final LazyOptional<IArcheryBowItem> holder = LazyOptional.of(() -> this);
-        private final float accuracyModifier;
-        private final float damageModifier;
-        private final float velocityModifier;
         protected final int simulateTicks = 100;
 
         final ItemStack bowItem;
@@ -163,28 +192,24 @@ public class FluxBowItem extends BowItemCoFH implements IMultiModeFluxItem {
 
             super(bowItemContainer, item, item.getEnergyCapability());
             this.bowItem = bowItemContainer;
-
-            this.accuracyModifier = MathHelper.clamp(item.accuracyModifier, 0.1F, 10.0F);
-            this.damageModifier = MathHelper.clamp(item.damageModifier, 0.1F, 10.0F);
-            this.velocityModifier = MathHelper.clamp(item.velocityModifier, 0.1F, 10.0F);
         }
 
         @Override
         public float getAccuracyModifier(Player shooter) {
 
-            return accuracyModifier;
+            return MathHelper.clamp(accuracyModifier, 0.1F, 10.0F);
         }
 
         @Override
         public float getDamageModifier(Player shooter) {
 
-            return damageModifier;
+            return MathHelper.clamp(damageModifier, 0.1F, 10.0F);
         }
 
         @Override
         public float getVelocityModifier(Player shooter) {
 
-            return velocityModifier;
+            return MathHelper.clamp(velocityModifier, 0.1F, 10.0F);
         }
 
         @Override
@@ -291,18 +316,113 @@ public class FluxBowItem extends BowItemCoFH implements IMultiModeFluxItem {
 
         public void simulateArrow(AbstractArrow arrow, Level world, int maxTicks) {
 
-            for (int i = 0; i < maxTicks && arrow.isAlive() && !arrow.isOnGround() && arrow.life <= 1; ++i) {
-                arrow.tick();
-                Vec3 velocity = arrow.getDeltaMovement();
-                if (!world.isClientSide()) {
-                    Vec3 prevPos = velocity.scale(-0.5F).add(arrow.position());
-                    ((ServerLevel) world).sendParticles(DustParticleOptions.REDSTONE, prevPos.x(), prevPos.y(), prevPos.z(), 1, 0, 0, 0, 0);
-                    ((ServerLevel) world).sendParticles(DustParticleOptions.REDSTONE, arrow.getX(), arrow.getY(), arrow.getZ(), 1, 0, 0, 0, 0);
+            int ticks = 0;
+            while (ticks < maxTicks && arrow.isAlive() && !arrow.isOnGround() && arrow.life <= 1) {
+                int segment = Math.min(SEGMENT_TICKS, maxTicks - ticks);
+                int solved = canSolveArrow(arrow, world) ? solveArrowSegment(arrow, world, segment, ticks == 0 ? arrow.getOwner() : null) : 0;
+                if (solved > 0) {
+                    ticks += solved;
+                    if (arrow.getDeltaMovement().lengthSqr() < 0.02F) {
+                        break;
+                    }
+                    continue;
+                }
+                // Something may be hit within this segment, so step the arrow as usual.
+                for (int i = 0; i < segment && arrow.isAlive() && !arrow.isOnGround() && arrow.life <= 1; ++i, ++ticks) {
+                    arrow.tick();
+                    Vec3 velocity = arrow.getDeltaMovement();
+                    sendArrowParticles(world, arrow.position(), velocity);
+                    if (velocity.lengthSqr() < 0.02F) {
+                        return;
+                    }
                 }
-                if (velocity.lengthSqr() < 0.02F) {
+            }
+        }
+
+        protected boolean canSolveArrow(AbstractArrow arrow, Level world) {
+
+            Class<?> type = arrow.getClass();
+            return (type == Arrow.class || type == SpectralArrow.class || type == FluxArrow.class) && !arrow.noPhysics
+                    && world.getFluidState(arrow.blockPosition()).isEmpty();
+        }
+
+        /**
+         * Moves the arrow along its closed-form path for up to the given number of ticks, if nothing can be hit on the way. Returns the number of
+         * ticks advanced, or 0 if the segment must be stepped normally.
+         */
+        protected int solveArrowSegment(AbstractArrow arrow, Level world, int segment, @Nullable Entity ignore) {
+
+            Vec3 start = arrow.position();
+            Vec3 motion = arrow.getDeltaMovement();
+            double gravity = arrow.isNoGravity() ? 0.0D : ARROW_GRAVITY;
+            Vec3[] path = new Vec3[segment + 1];
+            path[0] = start;
+            int ticks = segment;
+            for (int i = 1; i <= segment; ++i) {
+                path[i] = getArrowPosition(start, motion, gravity, i);
+                if (getArrowVelocity(motion, gravity, i).lengthSqr() < 0.02F) {
+                    ticks = i;
                     break;
                 }
             }
+            // Blocks and fluids; a straight path needs a single traversal.
+            for (int i = gravity == 0.0D ? ticks - 1 : 0; i < ticks; ++i) {
+                Vec3 from = gravity == 0.0D ? start : path[i];
+                if (world.clip(new ClipContext(from, path[i + 1], ClipContext.Block.COLLIDER, ClipContext.Fluid.ANY, arrow)).getType() != HitResult.Type.MISS) {
+                    return 0;
+                }
+            }
+            // Blocks the arrow would be inside at the end of each tick, such as tripwires and pressure plates, which react to it entering them.
+            AABB bounds = arrow.getBoundingBox();
+            for (int i = 1; i <= ticks; ++i) {
+                if (!isClearOfBlocks(world, bounds.move(path[i].subtract(start)))) {
+                    return 0;
+                }
+            }
+            // Entities, with a single query over the whole segment.
+            AABB area = bounds;
+            for (int i = 1; i <= ticks; ++i) {
+                area = area.minmax(bounds.move(path[i].subtract(start)));
+            }
+            if (!world.getEntities(ignore, area.inflate(1.0D), entity -> !entity.isSpectator() && entity.isPickable()).isEmpty()) {
+                return 0;
+            }
+            for (int i = 1; i <= ticks; ++i) {
+                sendArrowParticles(world, path[i], getArrowVelocity(motion, gravity, i));
+            }
+            Vec3 velocity = getArrowVelocity(motion, gravity, ticks);
+            float yRot = (float) (Math.atan2(velocity.x, velocity.z) * (180.0D / Math.PI));
+            float xRot = (float) (Math.atan2(velocity.y, velocity.horizontalDistance()) * (180.0D / Math.PI));
+            arrow.setPos(path[ticks]);
+            arrow.setDeltaMovement(velocity);
+            arrow.setYRot(yRot);
+            arrow.setXRot(xRot);
+            arrow.yRotO = yRot;
+            arrow.xRotO = xRot;
+            return ticks;
+        }
+
+        /**
+         * Returns true if the box only overlaps air, so an arrow there would have no blocks to check for being inside of.
+         */
+        protected boolean isClearOfBlocks(Level world, AABB box) {
+
+            AABB inner = box.deflate(1.0E-7D);
+            for (BlockPos pos : BlockPos.betweenClosed(new BlockPos(inner.minX, inner.minY, inner.minZ), new BlockPos(inner.maxX, inner.maxY, inner.maxZ))) {
+                if (!world.getBlockState(pos).isAir()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        protected void sendArrowParticles(Level world, Vec3 pos, Vec3 velocity) {
+
+            if (!world.isClientSide()) {
+                Vec3 prevPos = velocity.scale(-0.5F).add(pos);
+                ((ServerLevel) world).sendParticles(DustParticleOptions.REDSTONE, prevPos.x(), prevPos.y(), prevPos.z(), 1, 0, 0, 0, 0);
+                ((ServerLevel) world).sendParticles(DustParticleOptions.REDSTONE, pos.x(), pos.y(), pos.z(), 1, 0, 0, 0, 0);
+            }
         }
 
         // region ICapabilityProvider
@@ -6,6 +6,7 @@ import cofh.core.util.ProxyUtils;
 import cofh.core.util.helpers.ArcheryHelper;
 import cofh.lib.energy.EnergyContainerItemWrapper;
 import cofh.lib.item.CrossbowItemCoFH;
+import cofh.redstonearsenal.capability.LazyCapabilityProvider;
 import net.minecraft.ChatFormatting;
 import net.minecraft.advancements.CriteriaTriggers;
 import net.minecraft.client.gui.screens.Screen;
@@ -81,7 +82,7 @@ public class FluxCrossbowItem extends CrossbowItemCoFH implements IMultiModeFlux
     @Override
     public ICapabilityProvider initCapabilities(ItemStack stack, @Nullable CompoundTag nbt) {
 
-        return new EnergyContainerItemWrapper(stack, this, getEnergyCapability());
+        return new LazyCapabilityProvider(() -> new EnergyContainerItemWrapper(stack, this, getEnergyCapability()));
     }
 
     @Override
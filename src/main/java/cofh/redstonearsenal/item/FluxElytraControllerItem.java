@@ -59,7 +59,9 @@ public class FluxElytraControllerItem extends Item implements ICoFHItem, IMultiM
         ItemStack stack = player.getItemInHand(hand);
         ItemStack chest = player.getItemBySlot(EquipmentSlot.CHEST);
         if (chest.getItem() instanceof FluxElytraItem elytra) {
-            elytra.setMode(chest, getMode(stack));
+            if (elytra.getMode(chest) != getMode(stack)) {
+                elytra.setMode(chest, getMode(stack));
+            }
             if (elytra.boost(chest, player)) {
                 return InteractionResultHolder.sidedSuccess(stack, world.isClientSide());
             }
@@ -5,13 +5,14 @@ import cofh.core.util.ProxyUtils;
 import cofh.lib.energy.EnergyContainerItemWrapper;
 import cofh.lib.util.Utils;
 import cofh.lib.util.constants.NBTTags;
+import cofh.redstonearsenal.capability.LazyCapabilityProvider;
+import cofh.redstonearsenal.util.FluxElytraFlight;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
@@ -54,7 +55,7 @@ public class FluxElytraItem extends FluxArmorItem implements IMultiModeFluxItem
     @Override
     public ICapabilityProvider initCapabilities(ItemStack stack, @Nullable CompoundTag nbt) {
 
-        return new EnergyContainerItemWrapper(stack, this, getEnergyCapability());
+        return new LazyCapabilityProvider(() -> new EnergyContainerItemWrapper(stack, this, getEnergyCapability()));
     }
 
     @Override
@@ -67,33 +68,35 @@ public class FluxElytraItem extends FluxArmorItem implements IMultiModeFluxItem
     public boolean elytraFlightTick(ItemStack stack, LivingEntity entity, int flightTicks) {
 
         boolean isCreative = Utils.isCreativePlayer(entity);
-        boolean simulate = isCreative || flightTicks % energyUseInterval != 0;
-        if (!useEnergy(stack, false, simulate)) {
+        boolean charge = !isCreative && flightTicks % energyUseInterval == 0;
+        FluxElytraFlight.State flight = FluxElytraFlight.get(entity, stack, this);
+        if (charge && !flight.drain(getEnergyPerUse(false))) {
             return false;
         }
 
-        if (entity.isShiftKeyDown() && useEnergy(stack, true, simulate)) {
-            stack.getOrCreateTag().remove(NBTTags.TAG_TIME);
+        long time = entity.level.getGameTime();
+        if (entity.isShiftKeyDown() && (!charge || flight.drain(getEnergyPerUse(true)))) {
+            flight.stopBoost();
             brake(entity);
-        } else {
-            CompoundTag tag = stack.getOrCreateTag();
-            long time = entity.level.getGameTime();
-            if (time - tag.getLong(NBTTags.TAG_TIME) <= boostTime) {
-                propel(entity);
-            } else if (isEmpowered(stack) && useEnergy(stack, true, isCreative)) {
-                tag.putLong(NBTTags.TAG_TIME, time);
-                propel(entity);
-            }
+        } else if (flight.isBoosting(time, boostTime)) {
+            propel(entity);
+        } else if (isEmpowered(stack) && (isCreative || flight.drain(getEnergyPerUse(true)))) {
+            flight.startBoost(time);
+            propel(entity);
         }
+        flight.tick(time);
 
         return true;
     }
 
     @Override
-    public void inventoryTick(ItemStack stack, Level world, Entity entity, int slot, boolean selected) {
+    public void onStopFallFlying(ItemStack stack, Player player) {
 
-        if (entity instanceof LivingEntity && !((LivingEntity) entity).isFallFlying()) {
-            stack.getOrCreateTag().remove(NBTTags.TAG_TIME);
+        FluxElytraFlight.land(player);
+        // Boost times were stored on the stack in earlier versions.
+        CompoundTag tag = stack.getTag();
+        if (tag != null && tag.contains(NBTTags.TAG_TIME)) {
+            tag.remove(NBTTags.TAG_TIME);
         }
     }
 
@@ -105,14 +108,15 @@ public class FluxElytraItem extends FluxArmorItem implements IMultiModeFluxItem
         }
         boolean isPlayer = entity instanceof Player;
         boolean isCreative = isPlayer && ((Player) entity).abilities.instabuild;
-        if (!useEnergy(stack, getEnergyPerUse(true) * time / energyUseInterval, isCreative)) {
+        FluxElytraFlight.State flight = FluxElytraFlight.get(entity, stack, this);
+        if (!isCreative && !flight.drain(getEnergyPerUse(true) * time / energyUseInterval)) {
             return false;
         }
         if (!entity.isFallFlying() && isPlayer) {
             ((Player) entity).startFallFlying();
         }
         propel(entity, propelSpeed);
-        stack.getOrCreateTag().putLong(NBTTags.TAG_TIME, entity.level.getGameTime());
+        flight.startBoost(entity.level.getGameTime());
 
         return true;
     }
@@ -9,14 +9,22 @@ import cofh.lib.api.capability.IAreaEffectItem;
 import cofh.lib.api.item.IEnergyContainerItem;
 import cofh.lib.energy.EnergyContainerItemWrapper;
 import cofh.lib.util.Utils;
-import com.google.common.collect.HashMultimap;
+import cofh.redstonearsenal.capability.LazyCapabilityProvider;
+import cofh.redstonearsenal.util.AreaEffectCache;
+import cofh.redstonearsenal.util.AreaEffectScheduler;
+import cofh.redstonearsenal.util.AttributeModifierCache;
+import cofh.redstonearsenal.util.InventoryIndex;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.NonNullList;
+import net.minecraft.core.SectionPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
@@ -45,12 +53,7 @@ import net.minecraftforge.common.util.LazyOptional;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.*;
 
 import static cofh.core.util.references.EnsorcIDs.ID_EXCAVATING;
 import static cofh.lib.util.Utils.getEnchantment;
@@ -67,6 +70,8 @@ public class FluxExcavatorItem extends ExcavatorItem implements IMultiModeFluxIt
     protected final int extract;
     protected final int receive;
 
+    protected final AttributeModifierCache modifiers = new AttributeModifierCache(this::createAttributeModifiers);
+
     public FluxExcavatorItem(Tier tier, float attackDamageIn, float attackSpeedIn, Properties builder, int energy, int xfer) {
 
         super(tier, attackDamageIn, attackSpeedIn, builder);
@@ -101,7 +106,7 @@ public class FluxExcavatorItem extends ExcavatorItem implements IMultiModeFluxIt
     @Override
     public ICapabilityProvider initCapabilities(ItemStack stack, @Nullable CompoundTag nbt) {
 
-        return new FluxExcavatorItemWrapper(stack, this);
+        return new LazyCapabilityProvider(() -> new FluxExcavatorItemWrapper(stack, this));
     }
 
     @Override
@@ -126,12 +131,14 @@ public class FluxExcavatorItem extends ExcavatorItem implements IMultiModeFluxIt
             BlockPos playerPos = player.blockPosition();
             BlockPos eyePos = new BlockPos(player.getEyePosition(1));
             if (player.isCreative()) {
+                List<Placement> placements = new ArrayList<>();
                 for (BlockPos pos : blocks) {
                     BlockPos fillPos = pos.relative(context.getClickedFace());
                     if (world.getBlockState(fillPos).canBeReplaced(blockContext) && !fillPos.equals(playerPos) && !fillPos.equals(eyePos)) {
-                        world.setBlock(fillPos, world.getBlockState(pos).getBlock().defaultBlockState(), 2);
+                        placements.add(new Placement(fillPos, world.getBlockState(pos).getBlock().defaultBlockState(), -1));
                     }
                 }
+                placeBlocks(world, placements);
             } else if (hasEnergy(tool, false)) {
                 Map<Block, List<BlockPos>> sorted = new HashMap<>();
                 for (BlockPos pos : blocks) {
@@ -142,54 +149,61 @@ public class FluxExcavatorItem extends ExcavatorItem implements IMultiModeFluxIt
                     }
                 }
                 NonNullList<ItemStack> inventory = player.inventory.items;
+                InventoryIndex index = new InventoryIndex(inventory, stack -> stack.getItem() instanceof BlockItem);
                 int energyPer = getEnergyPerUse(false) / 2;
                 int energyStored = getEnergyStored(tool);
-                int energyUse = 0;
-                for (Block block : sorted.keySet()) {
-                    if (energyUse >= energyStored) {
-                        break;
+                int budget = energyPer > 0 ? energyStored / energyPer : Integer.MAX_VALUE;
+                int[] reserved = new int[inventory.size()];
+                List<Placement> placements = new ArrayList<>();
+                for (Map.Entry<Block, List<BlockPos>> entry : sorted.entrySet()) {
+                    Block block = entry.getKey();
+                    List<BlockPos> posns = entry.getValue();
+                    Set<Item> validItems = new ReferenceOpenHashSet<>();
+                    validItems.add(block.asItem());
+                    for (ItemStack drop : Block.getDrops(block.defaultBlockState(), (ServerLevel) world, posns.get(0), null)) {
+                        validItems.add(drop.getItem());
                     }
-                    List<BlockPos> posns = sorted.get(block);
-                    List<Item> validItems = Block.getDrops(block.defaultBlockState(), (ServerLevel) world, posns.get(0), null).stream().map(ItemStack::getItem).filter(i -> i instanceof BlockItem).collect(Collectors.toList());
-                    Predicate<ItemStack> matches = stack -> stack.getItem() instanceof BlockItem && (stack.getItem().equals(block.asItem()) || validItems.contains(stack.getItem()));
-                    int slot = -1;
-                    int uses = posns.size() - 1;
-                    while (uses > 0) {
-                        slot = findFirstInventory(inventory, matches, slot + 1);
-                        if (slot < 0) {
-                            break;
-                        }
-                        ItemStack stack = inventory.get(slot);
+                    IntList candidates = index.getSlots(validItems);
+                    int next = 0;
+                    for (int c = 0; c < candidates.size() && next < posns.size() && placements.size() < budget; ++c) {
+                        int slot = candidates.getInt(c);
+                        ItemStack stack = index.getStack(slot);
                         BlockState place = ((BlockItem) stack.getItem()).getBlock().defaultBlockState();
-                        int count = uses - stack.getCount();
-                        int consume = 0;
-                        for (; uses > count && uses >= 0; --uses) {
-                            if (world.setBlock(posns.get(uses), place, 2)) {
-                                ++consume;
-                                energyUse += energyPer;
-                                if (energyUse > energyStored) {
-                                    break;
-                                }
-                            }
+                        while (reserved[slot] < stack.getCount() && next < posns.size() && placements.size() < budget) {
+                            placements.add(new Placement(posns.get(next++), place, slot));
+                            ++reserved[slot];
                         }
-                        stack.shrink(consume);
                     }
                 }
-                useEnergy(tool, Math.min(energyUse, energyStored), false);
+                int placed = 0;
+                for (Placement placement : placeBlocks(world, placements)) {
+                    inventory.get(placement.slot()).shrink(1);
+                    ++placed;
+                }
+                useEnergy(tool, Math.min(placed * energyPer, energyStored), false);
             }
         }
         return InteractionResult.sidedSuccess(world.isClientSide());
     }
 
-    public static int findFirstInventory(NonNullList<ItemStack> inventory, Predicate<ItemStack> filter, int start) {
-
-        for (int i = start; i < inventory.size(); ++i) {
-            ItemStack stack = inventory.get(i);
-            if (!stack.isEmpty() && filter.test(stack)) {
-                return i;
+    /**
+     * Places blocks one chunk section at a time, which keeps each section's changes together in a single client update. Returns the placements
+     * that succeeded.
+     */
+    protected List<Placement> placeBlocks(Level world, List<Placement> placements) {
+
+        placements.sort(Comparator.comparingLong(placement -> SectionPos.blockToSection(placement.pos().asLong())));
+        List<Placement> placed = new ArrayList<>(placements.size());
+        for (Placement placement : placements) {
+            if (world.setBlock(placement.pos(), placement.state(), 2)) {
+                placed.add(placement);
             }
         }
-        return -1;
+        return placed;
+    }
+
+    protected record Placement(BlockPos pos, BlockState state, int slot) {
+
     }
 
     @Override
@@ -209,7 +223,7 @@ public class FluxExcavatorItem extends ExcavatorItem implements IMultiModeFluxIt
     public boolean mineBlock(ItemStack stack, Level worldIn, BlockState state, BlockPos pos, LivingEntity entityLiving) {
 
         if (Utils.isServerWorld(worldIn) && state.getDestroySpeed(worldIn, pos) != 0.0F) {
-            useEnergy(stack, false, entityLiving);
+            AreaEffectScheduler.useEnergy(this, stack, entityLiving);
         }
         return true;
     }
@@ -229,12 +243,15 @@ public class FluxExcavatorItem extends ExcavatorItem implements IMultiModeFluxIt
     @Override
     public Multimap<Attribute, AttributeModifier> getAttributeModifiers(EquipmentSlot slot, ItemStack stack) {
 
-        Multimap<Attribute, AttributeModifier> multimap = HashMultimap.create();
-        if (slot == EquipmentSlot.MAINHAND) {
-            multimap.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Tool modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
-            multimap.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Tool modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
-        }
-        return multimap;
+        return slot == EquipmentSlot.MAINHAND ? modifiers.get(stack, this) : ImmutableMultimap.of();
+    }
+
+    protected Multimap<Attribute, AttributeModifier> createAttributeModifiers(ItemStack stack) {
+
+        ImmutableMultimap.Builder<Attribute, AttributeModifier> builder = ImmutableMultimap.builder();
+        builder.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Tool modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
+        builder.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Tool modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
+        return builder.build();
     }
 
     protected float getAttackDamage(ItemStack stack) {
@@ -291,6 +308,7 @@ public class FluxExcavatorItem extends ExcavatorItem implements IMultiModeFluxIt
     protected class FluxExcavatorItemWrapper extends EnergyContainerItemWrapper implements IAreaEffectItem {
 
         private final LazyOptional<IAreaEffectItem> holder = LazyOptional.of(() -> this);
+        private final AreaEffectCache areaCache = new AreaEffectCache();
 
         FluxExcavatorItemWrapper(ItemStack containerIn, IEnergyContainerItem itemIn) {
 
@@ -300,8 +318,13 @@ public class FluxExcavatorItem extends ExcavatorItem implements IMultiModeFluxIt
         @Override
         public ImmutableList<BlockPos> getAreaEffectBlocks(BlockPos pos, Player player) {
 
-            if (hasEnergy(container, false)) {
-                return AreaEffectHelper.getBreakableBlocksRadius(container, pos, player, 1 + getMode(container) + getItemEnchantmentLevel(getEnchantment(ID_ENSORCELLATION, ID_EXCAVATING), container));
+            if (hasEnergy(container, false) && !AreaEffectScheduler.isHarvesting(player)) {
+                int radius = 1 + getMode(container) + getItemEnchantmentLevel(getEnchantment(ID_ENSORCELLATION, ID_EXCAVATING), container);
+                ImmutableList<BlockPos> blocks = areaCache.get(pos, player, radius);
+                if (blocks == null) {
+                    blocks = areaCache.put(AreaEffectHelper.getBreakableBlocksRadius(container, pos, player, radius));
+                }
+                return AreaEffectScheduler.schedule(container, pos, player, blocks);
             }
             return ImmutableList.of();
         }
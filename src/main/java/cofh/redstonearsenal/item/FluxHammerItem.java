@@ -9,9 +9,13 @@ import cofh.lib.api.capability.IAreaEffectItem;
 import cofh.lib.api.item.IEnergyContainerItem;
 import cofh.lib.energy.EnergyContainerItemWrapper;
 import cofh.lib.util.Utils;
+import cofh.redstonearsenal.capability.LazyCapabilityProvider;
 import cofh.redstonearsenal.entity.Shockwave;
-import com.google.common.collect.HashMultimap;
+import cofh.redstonearsenal.util.AreaEffectCache;
+import cofh.redstonearsenal.util.AreaEffectScheduler;
+import cofh.redstonearsenal.util.AttributeModifierCache;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
@@ -64,6 +68,8 @@ public class FluxHammerItem extends HammerItem implements IMultiModeFluxItem {
     protected final int extract;
     protected final int receive;
 
+    protected final AttributeModifierCache modifiers = new AttributeModifierCache(this::createAttributeModifiers);
+
     public FluxHammerItem(Tier tier, float attackDamageIn, float attackSpeedIn, Properties builder, int energy, int xfer) {
 
         super(tier, attackDamageIn, attackSpeedIn, builder);
@@ -98,7 +104,7 @@ public class FluxHammerItem extends HammerItem implements IMultiModeFluxItem {
     @Override
     public ICapabilityProvider initCapabilities(ItemStack stack, @Nullable CompoundTag nbt) {
 
-        return new FluxHammerItemWrapper(stack, this);
+        return new LazyCapabilityProvider(() -> new FluxHammerItemWrapper(stack, this));
     }
 
     @Override
@@ -150,7 +156,7 @@ public class FluxHammerItem extends HammerItem implements IMultiModeFluxItem {
     public boolean mineBlock(ItemStack stack, Level worldIn, BlockState state, BlockPos pos, LivingEntity entityLiving) {
 
         if (Utils.isServerWorld(worldIn) && state.getDestroySpeed(worldIn, pos) != 0.0F) {
-            useEnergy(stack, false, entityLiving);
+            AreaEffectScheduler.useEnergy(this, stack, entityLiving);
         }
         return true;
     }
@@ -176,13 +182,16 @@ public class FluxHammerItem extends HammerItem implements IMultiModeFluxItem {
     @Override
     public Multimap<Attribute, AttributeModifier> getAttributeModifiers(EquipmentSlot slot, ItemStack stack) {
 
-        Multimap<Attribute, AttributeModifier> multimap = HashMultimap.create();
-        if (slot == EquipmentSlot.MAINHAND) {
-            multimap.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Tool modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
-            multimap.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Tool modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
-            multimap.put(Attributes.ATTACK_KNOCKBACK, new AttributeModifier(UUID_WEAPON_KNOCKBACK, "Tool modifier", getKnockbackModifier(stack), AttributeModifier.Operation.ADDITION));
-        }
-        return multimap;
+        return slot == EquipmentSlot.MAINHAND ? modifiers.get(stack, this) : ImmutableMultimap.of();
+    }
+
+    protected Multimap<Attribute, AttributeModifier> createAttributeModifiers(ItemStack stack) {
+
+        ImmutableMultimap.Builder<Attribute, AttributeModifier> builder = ImmutableMultimap.builder();
+        builder.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Tool modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
+        builder.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Tool modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
+        builder.put(Attributes.ATTACK_KNOCKBACK, new AttributeModifier(UUID_WEAPON_KNOCKBACK, "Tool modifier", getKnockbackModifier(stack), AttributeModifier.Operation.ADDITION));
+        return builder.build();
     }
 
     protected float getAttackDamage(ItemStack stack) {
@@ -244,6 +253,7 @@ public class FluxHammerItem extends HammerItem implements IMultiModeFluxItem {
     protected class FluxHammerItemWrapper extends EnergyContainerItemWrapper implements IAreaEffectItem {
 
         private final LazyOptional<IAreaEffectItem> holder = LazyOptional.of(() -> this);
+        private final AreaEffectCache areaCache = new AreaEffectCache();
 
         FluxHammerItemWrapper(ItemStack containerIn, IEnergyContainerItem itemIn) {
 
@@ -253,8 +263,13 @@ public class FluxHammerItem extends HammerItem implements IMultiModeFluxItem {
         @Override
         public ImmutableList<BlockPos> getAreaEffectBlocks(BlockPos pos, Player player) {
 
-            if (hasEnergy(container, false)) {
-                return AreaEffectHelper.getBreakableBlocksRadius(container, pos, player, 1 + getItemEnchantmentLevel(getEnchantment(ID_ENSORCELLATION, ID_EXCAVATING), container));
+            if (hasEnergy(container, false) && !AreaEffectScheduler.isHarvesting(player)) {
+                int radius = 1 + getItemEnchantmentLevel(getEnchantment(ID_ENSORCELLATION, ID_EXCAVATING), container);
+                ImmutableList<BlockPos> blocks = areaCache.get(pos, player, radius);
+                if (blocks == null) {
+                    blocks = areaCache.put(AreaEffectHelper.getBreakableBlocksRadius(container, pos, player, radius));
+                }
+                return AreaEffectScheduler.schedule(container, pos, player, blocks);
             }
             return ImmutableList.of();
         }
@@ -3,7 +3,8 @@ package cofh.redstonearsenal.item;
 import cofh.core.config.CoreClientConfig;
 import cofh.core.util.ProxyUtils;
 import cofh.lib.item.HoeItemCoFH;
-import com.google.common.collect.HashMultimap;
+import cofh.redstonearsenal.util.AttributeModifierCache;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 import com.mojang.datafixers.util.Pair;
 import net.minecraft.ChatFormatting;
@@ -46,6 +47,8 @@ public class FluxHoeItem extends HoeItemCoFH implements IMultiModeFluxItem {
     protected final int extract;
     protected final int receive;
 
+    protected final AttributeModifierCache modifiers = new AttributeModifierCache(this::createAttributeModifiers);
+
     public FluxHoeItem(Tier tier, float attackSpeedIn, Properties builder, int energy, int xfer) {
 
         super(tier, -3, attackSpeedIn, builder);
@@ -138,12 +141,15 @@ public class FluxHoeItem extends HoeItemCoFH implements IMultiModeFluxItem {
     @Override
     public Multimap<Attribute, AttributeModifier> getAttributeModifiers(EquipmentSlot slot, ItemStack stack) {
 
-        Multimap<Attribute, AttributeModifier> multimap = HashMultimap.create();
-        if (slot == EquipmentSlot.MAINHAND) {
-            multimap.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Tool modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
-            multimap.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Tool modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
-        }
-        return multimap;
+        return slot == EquipmentSlot.MAINHAND ? modifiers.get(stack, this) : ImmutableMultimap.of();
+    }
+
+    protected Multimap<Attribute, AttributeModifier> createAttributeModifiers(ItemStack stack) {
+
+        ImmutableMultimap.Builder<Attribute, AttributeModifier> builder = ImmutableMultimap.builder();
+        builder.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Tool modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
+        builder.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Tool modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
+        return builder.build();
     }
 
     protected float getAttackDamage(ItemStack stack) {
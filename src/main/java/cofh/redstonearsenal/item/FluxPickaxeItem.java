@@ -4,11 +4,16 @@ import cofh.core.config.CoreClientConfig;
 import cofh.core.util.ProxyUtils;
 import cofh.lib.item.PickaxeItemCoFH;
 import cofh.lib.util.Utils;
-import com.google.common.collect.HashMultimap;
+import cofh.redstonearsenal.capability.FluxGlowAirChunkData;
+import cofh.redstonearsenal.config.RSAConfig;
+import cofh.redstonearsenal.util.AttributeModifierCache;
+import cofh.redstonearsenal.util.GlowAirPlanner;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
@@ -16,7 +21,6 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.InteractionResult;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.attributes.Attribute;
@@ -28,7 +32,9 @@ import net.minecraft.world.item.Tier;
 import net.minecraft.world.item.TooltipFlag;
 import net.minecraft.world.item.context.UseOnContext;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.common.ToolAction;
 
 import javax.annotation.Nullable;
@@ -49,6 +55,8 @@ public class FluxPickaxeItem extends PickaxeItemCoFH implements IMultiModeFluxIt
     protected final int extract;
     protected final int receive;
 
+    protected final AttributeModifierCache modifiers = new AttributeModifierCache(this::createAttributeModifiers);
+
     public FluxPickaxeItem(Tier tier, int attackDamageIn, float attackSpeedIn, Properties builder, int energy, int xfer) {
 
         super(tier, attackDamageIn, attackSpeedIn, builder);
@@ -117,12 +125,15 @@ public class FluxPickaxeItem extends PickaxeItemCoFH implements IMultiModeFluxIt
     @Override
     public Multimap<Attribute, AttributeModifier> getAttributeModifiers(EquipmentSlot slot, ItemStack stack) {
 
-        Multimap<Attribute, AttributeModifier> multimap = HashMultimap.create();
-        if (slot == EquipmentSlot.MAINHAND) {
-            multimap.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Tool modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
-            multimap.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Tool modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
-        }
-        return multimap;
+        return slot == EquipmentSlot.MAINHAND ? modifiers.get(stack, this) : ImmutableMultimap.of();
+    }
+
+    protected Multimap<Attribute, AttributeModifier> createAttributeModifiers(ItemStack stack) {
+
+        ImmutableMultimap.Builder<Attribute, AttributeModifier> builder = ImmutableMultimap.builder();
+        builder.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Tool modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
+        builder.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Tool modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
+        return builder.build();
     }
 
     @Override
@@ -134,12 +145,10 @@ public class FluxPickaxeItem extends PickaxeItemCoFH implements IMultiModeFluxIt
             Level world = context.getLevel();
             if (player.isShiftKeyDown()) {
                 if (useEnergy(tool, true, player.abilities.instabuild)) {
-                    int r = REMOVE_RADIUS;
-                    int r2 = r * r;
-                    for (BlockPos pos : BlockPos.betweenClosed(context.getClickedPos().offset(-r, -r, -r), context.getClickedPos().offset(r, r, r))) {
-                        if (pos.distSqr(context.getClickedPos()) < r2 && world.getBlockState(pos).getBlock().equals(FLUX_GLOW_AIR.get())) {
-                            removeAir(world, player, pos, 0.3F);
-                        }
+                    if (world.isClientSide()) {
+                        world.playSound(player, context.getClickedPos(), SoundEvents.FIRE_EXTINGUISH, SoundSource.PLAYERS, 0.5F, 1.0F);
+                    } else {
+                        removeAirInRadius(world, player, context.getClickedPos(), REMOVE_RADIUS);
                     }
                     return InteractionResult.SUCCESS;
                 }
@@ -159,25 +168,67 @@ public class FluxPickaxeItem extends PickaxeItemCoFH implements IMultiModeFluxIt
     }
 
     @Override
-    public void inventoryTick(ItemStack stack, Level world, Entity entity, int itemSlot, boolean isSelected) {
+    public void fluxInventoryTick(ItemStack stack, Player player, int slot) {
 
-        super.inventoryTick(stack, world, entity, itemSlot, isSelected);
-
-        if (!world.isClientSide() && isEmpowered(stack) && world.getGameTime() % 8 == 0) {
-            BlockPos pos = entity.blockPosition();
-            if (world.isEmptyBlock(pos) && world.getRawBrightness(pos, world.getSkyDarken()) <= LOW_LIGHT_THRESHOLD && useEnergy(stack, true, entity)) {
-                placeAir(world, null, pos, 0.3F);
+        Level world = player.level;
+        if (!world.isClientSide() && world.getGameTime() % 8 == 0 && isEmpowered(stack)) {
+            BlockPos pos = player.blockPosition();
+            if (world.isEmptyBlock(pos) && (player.abilities.instabuild || hasEnergy(stack, true)) && canPlaceAir(world, pos) && GlowAirPlanner.needsLight(world, player, pos, LOW_LIGHT_THRESHOLD)) {
+                GlowAirPlanner.plan(world, player, pos, this, stack);
             }
         }
     }
 
-    public void placeAir(Level world, Player player, BlockPos pos, float volume) {
+    public boolean placeAir(Level world, Player player, BlockPos pos, float volume) {
+
+        return placeAir(world, player, pos, volume, Block.UPDATE_ALL);
+    }
+
+    public boolean placeAir(Level world, @Nullable Player player, BlockPos pos, float volume, int flags) {
 
         world.playSound(player, pos, SoundEvents.FLINTANDSTEEL_USE, SoundSource.PLAYERS, volume, 1.0F);
         if (!world.isClientSide()) {
             ((ServerLevel) world).sendParticles(DustParticleOptions.REDSTONE, pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5, 4, 0.25, 0.25, 0.25, 0);
         }
-        world.setBlockAndUpdate(pos, FLUX_GLOW_AIR.get().defaultBlockState());
+        return world.setBlock(pos, FLUX_GLOW_AIR.get().defaultBlockState(), flags);
+    }
+
+    /**
+     * Removes all Flux Glow Air within the radius, using the per-chunk index of placed Glow Air. Server-side only.
+     */
+    public void removeAirInRadius(Level world, Player player, BlockPos center, int radius) {
+
+        int r2 = radius * radius;
+        for (int cx = SectionPos.blockToSectionCoord(center.getX() - radius); cx <= SectionPos.blockToSectionCoord(center.getX() + radius); ++cx) {
+            for (int cz = SectionPos.blockToSectionCoord(center.getZ() - radius); cz <= SectionPos.blockToSectionCoord(center.getZ() + radius); ++cz) {
+                LevelChunk chunk = world.getChunkSource().getChunkNow(cx, cz);
+                FluxGlowAirChunkData data = chunk == null ? null : FluxGlowAirChunkData.getIndexed(chunk);
+                if (data == null || data.size() == 0) {
+                    continue;
+                }
+                for (long packed : data.getPositions()) {
+                    BlockPos pos = BlockPos.of(packed);
+                    if (pos.distSqr(center) >= r2) {
+                        continue;
+                    }
+                    if (world.getBlockState(pos).is(FLUX_GLOW_AIR.get())) {
+                        removeAir(world, player, pos, 0.3F);
+                    } else {
+                        data.remove(pos);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether automatic placement may add more Flux Glow Air to the chunk at this position.
+     */
+    public boolean canPlaceAir(Level world, BlockPos pos) {
+
+        int cap = RSAConfig.glowAirPerChunk.get();
+        FluxGlowAirChunkData data = FluxGlowAirChunkData.getIndexed(world, pos);
+        return cap <= 0 || data == null || data.size() < cap;
     }
 
     public void removeAir(Level world, Player player, BlockPos pos, float volume) {
@@ -6,6 +6,7 @@ import cofh.core.util.ProxyUtils;
 import cofh.lib.api.capability.IArcheryAmmoItem;
 import cofh.lib.api.item.IEnergyContainerItem;
 import cofh.lib.energy.EnergyContainerItemWrapper;
+import cofh.redstonearsenal.capability.LazyCapabilityProvider;
 import cofh.redstonearsenal.entity.FluxArrow;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
@@ -85,7 +86,7 @@ public class FluxQuiverItem extends ItemCoFH implements IMultiModeFluxItem {
     @Override
     public ICapabilityProvider initCapabilities(ItemStack stack, @Nullable CompoundTag nbt) {
 
-        return new FluxQuiverItemWrapper(stack, this);
+        return new LazyCapabilityProvider(() -> new FluxQuiverItemWrapper(stack, this));
     }
 
     @Override
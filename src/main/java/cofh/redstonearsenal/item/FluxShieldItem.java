@@ -6,6 +6,8 @@ import cofh.lib.api.capability.IShieldItem;
 import cofh.lib.api.item.IEnergyContainerItem;
 import cofh.lib.energy.EnergyContainerItemWrapper;
 import cofh.lib.item.ShieldItemCoFH;
+import cofh.redstonearsenal.capability.LazyCapabilityProvider;
+import cofh.redstonearsenal.util.AoETargetHelper;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.core.Direction;
@@ -18,7 +20,6 @@ import net.minecraft.world.InteractionResultHolder;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.effect.MobEffects;
 import net.minecraft.world.entity.Entity;
-import net.minecraft.world.entity.EntitySelector;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
@@ -74,7 +75,7 @@ public class FluxShieldItem extends ShieldItemCoFH implements IMultiModeFluxItem
     @Override
     public ICapabilityProvider initCapabilities(ItemStack stack, @Nullable CompoundTag nbt) {
 
-        return new FluxShieldItemWrapper(stack, this);
+        return new LazyCapabilityProvider(() -> new FluxShieldItemWrapper(stack, this));
     }
 
     @Override
@@ -94,18 +95,15 @@ public class FluxShieldItem extends ShieldItemCoFH implements IMultiModeFluxItem
 
         if (useEnergy(stack, true, living)) {
             float range = getRepelRange(stack);
-            double r2 = range * range;
             float strength = getRepelStrength(stack);
             AABB searchArea = living.getBoundingBox().inflate(range);
-            for (Entity entity : world.getEntities(living, searchArea, EntitySelector.NO_CREATIVE_OR_SPECTATOR)) {
-                if (living.distanceToSqr(entity) < r2) {
-                    Vec3 knockback = entity.position().subtract(living.position());
-                    if (entity instanceof LivingEntity) {
-                        ((LivingEntity) entity).knockback(strength, -knockback.x(), -knockback.z());
-                    } else {
-                        entity.setDeltaMovement(knockback.normalize().scale(strength));
-                        entity.hasImpulse = true;
-                    }
+            for (Entity entity : AoETargetHelper.getTargets(world, living, searchArea, AoETargetHelper.sphere(living.position(), range))) {
+                Vec3 knockback = entity.position().subtract(living.position());
+                if (entity instanceof LivingEntity) {
+                    ((LivingEntity) entity).knockback(strength, -knockback.x(), -knockback.z());
+                } else {
+                    entity.setDeltaMovement(knockback.normalize().scale(strength));
+                    entity.hasImpulse = true;
                 }
             }
         }
@@ -10,8 +10,12 @@ import cofh.lib.api.capability.IAreaEffectItem;
 import cofh.lib.api.item.IEnergyContainerItem;
 import cofh.lib.energy.EnergyContainerItemWrapper;
 import cofh.lib.util.Utils;
-import com.google.common.collect.HashMultimap;
+import cofh.redstonearsenal.capability.LazyCapabilityProvider;
+import cofh.redstonearsenal.util.AreaEffectCache;
+import cofh.redstonearsenal.util.AreaEffectScheduler;
+import cofh.redstonearsenal.util.AttributeModifierCache;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.minecraft.ChatFormatting;
@@ -64,6 +68,8 @@ public class FluxSickleItem extends SickleItem implements IMultiModeFluxItem, IL
     protected final int extract;
     protected final int receive;
 
+    protected final AttributeModifierCache modifiers = new AttributeModifierCache(this::createAttributeModifiers);
+
     public FluxSickleItem(Tier tier, float attackDamageIn, float attackSpeedIn, Properties builder, int energy, int xfer) {
 
         super(tier, attackDamageIn, attackSpeedIn, builder);
@@ -110,7 +116,7 @@ public class FluxSickleItem extends SickleItem implements IMultiModeFluxItem, IL
     @Override
     public ICapabilityProvider initCapabilities(ItemStack stack, @Nullable CompoundTag nbt) {
 
-        return new FluxSickleItemWrapper(stack, this);
+        return new LazyCapabilityProvider(() -> new FluxSickleItemWrapper(stack, this));
     }
 
     @Override
@@ -136,7 +142,7 @@ public class FluxSickleItem extends SickleItem implements IMultiModeFluxItem, IL
     public boolean mineBlock(ItemStack stack, Level worldIn, BlockState state, BlockPos pos, LivingEntity entityLiving) {
 
         if (Utils.isServerWorld(worldIn) && !state.is(BlockTags.FIRE)) {
-            useEnergy(stack, false, entityLiving);
+            AreaEffectScheduler.useEnergy(this, stack, entityLiving);
         }
         return true;
     }
@@ -162,12 +168,15 @@ public class FluxSickleItem extends SickleItem implements IMultiModeFluxItem, IL
     @Override
     public Multimap<Attribute, AttributeModifier> getAttributeModifiers(EquipmentSlot slot, ItemStack stack) {
 
-        Multimap<Attribute, AttributeModifier> multimap = HashMultimap.create();
-        if (slot == EquipmentSlot.MAINHAND) {
-            multimap.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Tool modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
-            multimap.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Tool modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
-        }
-        return multimap;
+        return slot == EquipmentSlot.MAINHAND ? modifiers.get(stack, this) : ImmutableMultimap.of();
+    }
+
+    protected Multimap<Attribute, AttributeModifier> createAttributeModifiers(ItemStack stack) {
+
+        ImmutableMultimap.Builder<Attribute, AttributeModifier> builder = ImmutableMultimap.builder();
+        builder.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Tool modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
+        builder.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Tool modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
+        return builder.build();
     }
 
     protected float getAttackDamage(ItemStack stack) {
@@ -229,6 +238,7 @@ public class FluxSickleItem extends SickleItem implements IMultiModeFluxItem, IL
     protected class FluxSickleItemWrapper extends EnergyContainerItemWrapper implements IAreaEffectItem {
 
         private final LazyOptional<IAreaEffectItem> holder = LazyOptional.of(() -> this);
+        private final AreaEffectCache areaCache = new AreaEffectCache();
 
         FluxSickleItemWrapper(ItemStack containerIn, IEnergyContainerItem itemIn) {
 
@@ -238,11 +248,15 @@ public class FluxSickleItem extends SickleItem implements IMultiModeFluxItem, IL
         @Override
         public ImmutableList<BlockPos> getAreaEffectBlocks(BlockPos pos, Player player) {
 
-            if (hasEnergy(container, false)) {
-                if (isEmpowered(container)) {
-                    return AreaEffectHelper.getMatureBlocksCentered(container, pos, player, radius, height);
+            if (hasEnergy(container, false) && !AreaEffectScheduler.isHarvesting(player)) {
+                boolean empowered = isEmpowered(container);
+                ImmutableList<BlockPos> blocks = areaCache.get(pos, player, empowered ? 1 : 0);
+                if (blocks == null) {
+                    blocks = areaCache.put(empowered
+                            ? AreaEffectHelper.getMatureBlocksCentered(container, pos, player, radius, height)
+                            : AreaEffectHelper.getBlocksCentered(container, pos, player, radius, height));
                 }
-                return AreaEffectHelper.getBlocksCentered(container, pos, player, radius, height);
+                return AreaEffectScheduler.schedule(container, pos, player, blocks);
             }
             return ImmutableList.of();
         }
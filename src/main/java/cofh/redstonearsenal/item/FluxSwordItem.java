@@ -5,8 +5,11 @@ import cofh.core.item.ILeftClickHandlerItem;
 import cofh.core.util.ProxyUtils;
 import cofh.lib.item.SwordItemCoFH;
 import cofh.lib.util.Utils;
+import cofh.redstonearsenal.config.RSAConfig;
 import cofh.redstonearsenal.entity.FluxSlash;
-import com.google.common.collect.HashMultimap;
+import cofh.redstonearsenal.util.AttributeModifierCache;
+import cofh.redstonearsenal.util.FluxSlashSimulator;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
@@ -42,6 +45,8 @@ public class FluxSwordItem extends SwordItemCoFH implements IMultiModeFluxItem,
     protected final int extract;
     protected final int receive;
 
+    protected final AttributeModifierCache modifiers = new AttributeModifierCache(this::createAttributeModifiers);
+
     public FluxSwordItem(Tier tier, int attackDamageIn, float attackSpeedIn, Properties builder, int energy, int xfer) {
 
         super(tier, attackDamageIn, attackSpeedIn, builder);
@@ -104,12 +109,15 @@ public class FluxSwordItem extends SwordItemCoFH implements IMultiModeFluxItem,
     @Override
     public Multimap<Attribute, AttributeModifier> getAttributeModifiers(EquipmentSlot slot, ItemStack stack) {
 
-        Multimap<Attribute, AttributeModifier> multimap = HashMultimap.create();
-        if (slot == EquipmentSlot.MAINHAND) {
-            multimap.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Weapon modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
-            multimap.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Weapon modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
-        }
-        return multimap;
+        return slot == EquipmentSlot.MAINHAND ? modifiers.get(stack, this) : ImmutableMultimap.of();
+    }
+
+    protected Multimap<Attribute, AttributeModifier> createAttributeModifiers(ItemStack stack) {
+
+        ImmutableMultimap.Builder<Attribute, AttributeModifier> builder = ImmutableMultimap.builder();
+        builder.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Weapon modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
+        builder.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Weapon modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
+        return builder.build();
     }
 
     protected float getAttackDamage(ItemStack stack) {
@@ -135,7 +143,11 @@ public class FluxSwordItem extends SwordItemCoFH implements IMultiModeFluxItem,
         if (useEnergy(stack, true, player.abilities.instabuild)) {
             Level world = player.level;
             FluxSlash projectile = new FluxSlash(world, player, Utils.getItemEnchantmentLevel(Enchantments.SWEEPING_EDGE, stack));
-            world.addFreshEntity(projectile);
+            if (RSAConfig.simulateFluxSlashes.get() && !world.isClientSide) {
+                FluxSlashSimulator.fire(projectile);
+            } else {
+                world.addFreshEntity(projectile);
+            }
             //world.playSound(null, player.getX(), player.getY(), player.getZ(), SoundEvents.PLAYER_ATTACK_SWEEP, SoundSource.PLAYERS, 1.0F, 1.0F);
         }
     }
@@ -10,7 +10,9 @@ import cofh.lib.util.Utils;
 import cofh.lib.util.helpers.MathHelper;
 import cofh.redstonearsenal.client.renderer.FluxTridentBEWLR;
 import cofh.redstonearsenal.entity.ThrownFluxTrident;
-import com.google.common.collect.HashMultimap;
+import cofh.redstonearsenal.util.AoETargetHelper;
+import cofh.redstonearsenal.util.AttributeModifierCache;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
@@ -67,6 +69,8 @@ public class FluxTridentItem extends TridentItemCoFH implements IMultiModeFluxIt
     protected final int extract;
     protected final int receive;
 
+    protected final AttributeModifierCache modifiers = new AttributeModifierCache(this::createAttributeModifiers);
+
     public FluxTridentItem(Tier tier, int attackDamageIn, float attackSpeedIn, float rangeIn, Properties builder, int energy, int xfer) {
 
         super(tier, builder);
@@ -108,14 +112,10 @@ public class FluxTridentItem extends TridentItemCoFH implements IMultiModeFluxIt
     }
 
     @Override
-    public void inventoryTick(ItemStack stack, Level world, Entity entity, int itemSlot, boolean isSelected) {
-
-        super.inventoryTick(stack, world, entity, itemSlot, isSelected);
+    public void fluxInventoryTick(ItemStack stack, Player player, int slot) {
 
-        if (entity instanceof LivingEntity living) {
-            if (living.isAutoSpinAttack() && (living.isOnGround() || (living.isUnderWater() && living.getDeltaMovement().lengthSqr() < 0.09F))) {
-                stopSpinAttack(living);
-            }
+        if (player.isAutoSpinAttack() && (player.isOnGround() || (player.isUnderWater() && player.getDeltaMovement().lengthSqr() < 0.09F))) {
+            stopSpinAttack(player);
         }
     }
 
@@ -233,12 +233,9 @@ public class FluxTridentItem extends TridentItemCoFH implements IMultiModeFluxIt
                 Utils.spawnLightningBolt(world, attacker.blockPosition(), attacker);
             }
         }
-        double r2 = range * range;
         boolean hit = false;
-        for (Entity target : world.getEntities(attacker, attacker.getBoundingBox().inflate(range, 1, range), EntitySelector.NO_CREATIVE_OR_SPECTATOR)) {
-            if (attacker.distanceToSqr(target) <= r2) {
-                hit |= target.hurt(IFluxItem.fluxDirectDamage(attacker), getPlungeAttackDamage(attacker, stack));
-            }
+        for (Entity target : AoETargetHelper.getTargets(world, attacker, attacker.getBoundingBox().inflate(range, 1, range), AoETargetHelper.sphere(attacker.position(), range))) {
+            hit |= target.hurt(IFluxItem.fluxDirectDamage(attacker), getPlungeAttackDamage(attacker, stack));
         }
         if (hit) {
             world.playSound(null, attacker.getX(), attacker.getY(), attacker.getZ(), SoundEvents.TRIDENT_RETURN, SoundSource.PLAYERS, 10.0F, 1.0F);
@@ -293,13 +290,16 @@ public class FluxTridentItem extends TridentItemCoFH implements IMultiModeFluxIt
     @Override
     public Multimap<Attribute, AttributeModifier> getAttributeModifiers(EquipmentSlot slot, ItemStack stack) {
 
-        Multimap<Attribute, AttributeModifier> multimap = HashMultimap.create();
-        if (slot == EquipmentSlot.MAINHAND) {
-            multimap.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Weapon modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
-            multimap.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Weapon modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
-            multimap.put(ForgeMod.ATTACK_RANGE.get(), new AttributeModifier(UUID_WEAPON_RANGE, "Weapon modifier", getAddedAttackRange(stack), AttributeModifier.Operation.ADDITION));
-        }
-        return multimap;
+        return slot == EquipmentSlot.MAINHAND ? modifiers.get(stack, this) : ImmutableMultimap.of();
+    }
+
+    protected Multimap<Attribute, AttributeModifier> createAttributeModifiers(ItemStack stack) {
+
+        ImmutableMultimap.Builder<Attribute, AttributeModifier> builder = ImmutableMultimap.builder();
+        builder.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Weapon modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
+        builder.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Weapon modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
+        builder.put(ForgeMod.ATTACK_RANGE.get(), new AttributeModifier(UUID_WEAPON_RANGE, "Weapon modifier", getAddedAttackRange(stack), AttributeModifier.Operation.ADDITION));
+        return builder.build();
     }
 
     protected float getAttackDamage(ItemStack stack) {
@@ -7,13 +7,16 @@ import cofh.lib.api.block.IDismantleable;
 import cofh.lib.api.block.IWrenchable;
 import cofh.lib.util.Utils;
 import cofh.lib.util.helpers.BlockHelper;
+import cofh.redstonearsenal.config.RSAConfig;
 import cofh.redstonearsenal.entity.ThrownFluxWrench;
-import com.google.common.collect.HashMultimap;
+import cofh.redstonearsenal.util.AttributeModifierCache;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.stats.Stats;
@@ -40,8 +43,7 @@ import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult;
 
 import javax.annotation.Nullable;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 
 import static cofh.core.config.CoreCommonConfig.returnDismantleDrops;
 import static cofh.core.init.CoreMobEffects.WRENCHED;
@@ -58,6 +60,8 @@ public class FluxWrenchItem extends ItemCoFH implements IMultiModeFluxItem {
     protected final int extract;
     protected final int receive;
 
+    protected final AttributeModifierCache modifiers = new AttributeModifierCache(this::createAttributeModifiers);
+
     public FluxWrenchItem(Tier tier, float attackDamageIn, float attackSpeedIn, Properties builder, int energy, int xfer) {
 
         super(builder);
@@ -162,6 +166,9 @@ public class FluxWrenchItem extends ItemCoFH implements IMultiModeFluxItem {
         if (player == null || world.isEmptyBlock(pos) || !(hasEnergy(stack, false) || player.abilities.instabuild) || !player.mayUseItemAt(pos, result.getDirection(), stack)) {
             return false;
         }
+        if (isEmpowered(stack) && RSAConfig.wrenchBatchLimit.get() > 1) {
+            return useRangedBatch(world, stack, player, result);
+        }
         BlockState state = world.getBlockState(pos);
         Block block = state.getBlock();
         if (block instanceof IWrenchable wrenchable && wrenchable.canWrench(world, pos, state, player)) {
@@ -175,6 +182,66 @@ public class FluxWrenchItem extends ItemCoFH implements IMultiModeFluxItem {
         return false;
     }
 
+    /**
+     * Wrenches or rotates the connected group of same-type blocks around the hit block. The whole group is found and validated before any
+     * block is changed, and energy for the group is charged once.
+     */
+    protected boolean useRangedBatch(Level world, ItemStack stack, Player player, BlockHitResult result) {
+
+        boolean creative = player.abilities.instabuild;
+        int limit = RSAConfig.wrenchBatchLimit.get();
+        if (!creative) {
+            limit = Math.min(limit, getEnergyStored(stack) / Math.max(getEnergyPerUse(false), 1));
+        }
+        List<BlockPos> group = findWrenchGroup(world, stack, player, result, Math.max(limit, 1));
+        if (group.isEmpty()) {
+            return false;
+        }
+        int count = 0;
+        for (BlockPos pos : group) {
+            BlockState state = world.getBlockState(pos);
+            if (state.getBlock() instanceof IWrenchable wrenchable) {
+                wrenchable.wrenchBlock(world, pos, state, result.withPosition(pos), player);
+                ++count;
+            } else if (BlockHelper.attemptRotateBlock(state, world, pos)) {
+                ++count;
+            }
+        }
+        if (count > 0) {
+            useEnergy(stack, Math.min(getEnergyPerUse(false) * count, getEnergyStored(stack)), creative);
+        }
+        return count > 0;
+    }
+
+    protected List<BlockPos> findWrenchGroup(Level world, ItemStack stack, Player player, BlockHitResult result, int limit) {
+
+        BlockPos origin = result.getBlockPos();
+        Block block = world.getBlockState(origin).getBlock();
+        List<BlockPos> group = new ArrayList<>();
+        Set<BlockPos> visited = new ObjectOpenHashSet<>();
+        Deque<BlockPos> queue = new ArrayDeque<>();
+        queue.add(origin);
+        visited.add(origin);
+        while (!queue.isEmpty() && group.size() < limit) {
+            BlockPos pos = queue.poll();
+            BlockState state = world.getBlockState(pos);
+            if (!state.is(block) || !player.mayUseItemAt(pos, result.getDirection(), stack)) {
+                continue;
+            }
+            if (block instanceof IWrenchable wrenchable && !wrenchable.canWrench(world, pos, state, player)) {
+                continue;
+            }
+            group.add(pos);
+            for (Direction dir : Direction.values()) {
+                BlockPos next = pos.relative(dir);
+                if (visited.add(next) && world.isLoaded(next)) {
+                    queue.add(next);
+                }
+            }
+        }
+        return group;
+    }
+
     @Override
     public InteractionResult onItemUseFirst(ItemStack stack, UseOnContext context) {
 
@@ -205,12 +272,15 @@ public class FluxWrenchItem extends ItemCoFH implements IMultiModeFluxItem {
     @Override
     public Multimap<Attribute, AttributeModifier> getAttributeModifiers(EquipmentSlot slot, ItemStack stack) {
 
-        Multimap<Attribute, AttributeModifier> multimap = HashMultimap.create();
-        if (slot == EquipmentSlot.MAINHAND) {
-            multimap.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Tool modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
-            multimap.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Tool modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
-        }
-        return multimap;
+        return slot == EquipmentSlot.MAINHAND ? modifiers.get(stack, this) : ImmutableMultimap.of();
+    }
+
+    protected Multimap<Attribute, AttributeModifier> createAttributeModifiers(ItemStack stack) {
+
+        ImmutableMultimap.Builder<Attribute, AttributeModifier> builder = ImmutableMultimap.builder();
+        builder.put(Attributes.ATTACK_DAMAGE, new AttributeModifier(BASE_ATTACK_DAMAGE_UUID, "Tool modifier", getAttackDamage(stack), AttributeModifier.Operation.ADDITION));
+        builder.put(Attributes.ATTACK_SPEED, new AttributeModifier(BASE_ATTACK_SPEED_UUID, "Tool modifier", getAttackSpeed(stack), AttributeModifier.Operation.ADDITION));
+        return builder.build();
     }
 
     protected float getAttackDamage(ItemStack stack) {
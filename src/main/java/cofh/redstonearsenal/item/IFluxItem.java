@@ -4,6 +4,8 @@ import cofh.lib.api.item.ICoFHItem;
 import cofh.lib.api.item.IEnergyContainerItem;
 import cofh.lib.energy.EnergyContainerItemWrapper;
 import cofh.lib.util.Utils;
+import cofh.redstonearsenal.capability.LazyCapabilityProvider;
+import cofh.redstonearsenal.util.FluxInventoryTicker;
 import cofh.redstonearsenal.util.RSAEnergyHelper;
 import net.minecraft.ChatFormatting;
 import net.minecraft.nbt.CompoundTag;
@@ -13,6 +15,7 @@ import net.minecraft.world.damagesource.EntityDamageSource;
 import net.minecraft.world.damagesource.IndirectEntityDamageSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.projectile.Projectile;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
@@ -81,6 +84,20 @@ public interface IFluxItem extends ICoFHItem, IEnergyContainerItem {
         return useEnergy(stack, getEnergyPerUse(empowered), Utils.isCreativePlayer(entity));
     }
 
+    /**
+     * Called each tick for Flux items in a player's inventory, on both sides, by the {@link FluxInventoryTicker}.
+     */
+    default void fluxInventoryTick(ItemStack stack, Player player, int slot) {
+
+    }
+
+    /**
+     * Called once for Flux items in a player's inventory on the tick the player stops fall-flying.
+     */
+    default void onStopFallFlying(ItemStack stack, Player player) {
+
+    }
+
     @Override
     default boolean shouldCauseBlockBreakReset(ItemStack oldStack, ItemStack newStack) {
 
@@ -126,7 +143,7 @@ public interface IFluxItem extends ICoFHItem, IEnergyContainerItem {
     @Override
     default ICapabilityProvider initCapabilities(ItemStack stack, @Nullable CompoundTag nbt) {
 
-        return new EnergyContainerItemWrapper(stack, this, getEnergyCapability());
+        return new LazyCapabilityProvider(() -> new EnergyContainerItemWrapper(stack, this, getEnergyCapability()));
     }
 
     default void tooltipDelegate(ItemStack stack, @Nullable Level worldIn, List<Component> tooltip, TooltipFlag flagIn) {
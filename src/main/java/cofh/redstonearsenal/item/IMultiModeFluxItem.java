@@ -3,6 +3,7 @@ package cofh.redstonearsenal.item;
 import cofh.core.item.IMultiModeItem;
 import cofh.core.util.ProxyUtils;
 import cofh.lib.energy.EnergyContainerItemWrapper;
+import cofh.redstonearsenal.capability.LazyCapabilityProvider;
 import net.minecraft.ChatFormatting;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
@@ -49,7 +50,7 @@ public interface IMultiModeFluxItem extends IFluxItem, IMultiModeItem {
     @Override
     default ICapabilityProvider initCapabilities(ItemStack stack, @Nullable CompoundTag nbt) {
 
-        return new EnergyContainerItemWrapper(stack, this, getEnergyCapability());
+        return new LazyCapabilityProvider(() -> new EnergyContainerItemWrapper(stack, this, getEnergyCapability()));
     }
 
     default void tooltipDelegate(ItemStack stack, @Nullable Level worldIn, List<Component> tooltip, TooltipFlag flagIn) {
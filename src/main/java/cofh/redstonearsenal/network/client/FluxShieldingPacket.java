@@ -7,13 +7,23 @@ import cofh.redstonearsenal.RedstoneArsenal;
 import cofh.redstonearsenal.util.FluxShieldingHelper;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
 
 import static cofh.redstonearsenal.init.RSAPackets.PACKET_FLUX_SHIELDING;
 
+/**
+ * Delta update of a player's flux shield state. Only the fields flagged as changed are written.
+ */
 public class FluxShieldingPacket extends PacketBase implements IPacketClient {
 
+    public static final int FLAG_CURR = 1;
+    public static final int FLAG_MAX = 2;
+    public static final int FLAG_RECHARGE = 4;
+
+    protected int flags;
     protected int currCharges;
     protected int maxCharges;
+    protected long rechargeDelay = -1;
 
     public FluxShieldingPacket() {
 
@@ -24,35 +34,55 @@ public class FluxShieldingPacket extends PacketBase implements IPacketClient {
     public void handleClient() {
 
         if (ProxyUtils.isClient()) {
-            FluxShieldingHelper.updateHUD(currCharges, maxCharges);
+            int curr = (flags & FLAG_CURR) != 0 ? currCharges : FluxShieldingHelper.currentCharges;
+            int max = (flags & FLAG_MAX) != 0 ? maxCharges : FluxShieldingHelper.maximumCharges;
+            long recharge = FluxShieldingHelper.rechargeTime;
+            if ((flags & FLAG_RECHARGE) != 0) {
+                Level level = ProxyUtils.getClientWorld();
+                recharge = rechargeDelay < 0 || level == null ? -1 : level.getGameTime() + rechargeDelay;
+            }
+            FluxShieldingHelper.updateHUD(curr, max, recharge);
         }
     }
 
     @Override
     public void write(FriendlyByteBuf buf) {
 
-        buf.writeByte(currCharges);
-        buf.writeByte(maxCharges);
+        buf.writeByte(flags);
+        if ((flags & FLAG_CURR) != 0) {
+            buf.writeByte(currCharges);
+        }
+        if ((flags & FLAG_MAX) != 0) {
+            buf.writeByte(maxCharges);
+        }
+        if ((flags & FLAG_RECHARGE) != 0) {
+            buf.writeVarLong(rechargeDelay + 1);
+        }
     }
 
     @Override
     public void read(FriendlyByteBuf buf) {
 
-        currCharges = buf.readByte();
-        maxCharges = buf.readByte();
+        flags = buf.readByte();
+        if ((flags & FLAG_CURR) != 0) {
+            currCharges = buf.readByte();
+        }
+        if ((flags & FLAG_MAX) != 0) {
+            maxCharges = buf.readByte();
+        }
+        if ((flags & FLAG_RECHARGE) != 0) {
+            rechargeDelay = buf.readVarLong() - 1;
+        }
     }
 
-    public static void sendToClient(int currCharges, int maxCharges, ServerPlayer player) {
+    public static void sendToClient(int flags, int currCharges, int maxCharges, long rechargeDelay, ServerPlayer player) {
 
         FluxShieldingPacket packet = new FluxShieldingPacket();
+        packet.flags = flags;
         packet.currCharges = currCharges;
         packet.maxCharges = maxCharges;
+        packet.rechargeDelay = rechargeDelay;
         packet.sendToPlayer(player);
     }
 
-    public static void sendToClient(int[] charges, ServerPlayer player) {
-
-        sendToClient(charges[0], charges[1], player);
-    }
-
 }
@@ -0,0 +1,93 @@
+package cofh.redstonearsenal.network.client;
+
+import cofh.core.util.ProxyUtils;
+import cofh.lib.network.packet.IPacketClient;
+import cofh.lib.network.packet.PacketBase;
+import cofh.redstonearsenal.RedstoneArsenal;
+import cofh.redstonearsenal.client.FluxSlashEffects;
+import cofh.redstonearsenal.entity.FluxSlash;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.Vec3;
+
+import static cofh.redstonearsenal.init.RSAPackets.PACKET_FLUX_SLASH;
+
+/**
+ * Tells a client that a simulated Flux Slash was fired, so it can play the slash locally.
+ */
+public class FluxSlashPacket extends PacketBase implements IPacketClient {
+
+    protected int ownerId;
+    protected double x;
+    protected double y;
+    protected double z;
+    protected float motionX;
+    protected float motionY;
+    protected float motionZ;
+    protected float xRot;
+    protected float yRot;
+    protected int duration;
+
+    public FluxSlashPacket() {
+
+        super(PACKET_FLUX_SLASH, RedstoneArsenal.PACKET_HANDLER);
+    }
+
+    @Override
+    public void handleClient() {
+
+        if (ProxyUtils.isClient()) {
+            FluxSlashEffects.spawnSlash(ownerId, new Vec3(x, y, z), new Vec3(motionX, motionY, motionZ), xRot, yRot, duration);
+        }
+    }
+
+    @Override
+    public void write(FriendlyByteBuf buf) {
+
+        buf.writeVarInt(ownerId + 1);
+        buf.writeDouble(x);
+        buf.writeDouble(y);
+        buf.writeDouble(z);
+        buf.writeFloat(motionX);
+        buf.writeFloat(motionY);
+        buf.writeFloat(motionZ);
+        buf.writeFloat(xRot);
+        buf.writeFloat(yRot);
+        buf.writeByte(duration);
+    }
+
+    @Override
+    public void read(FriendlyByteBuf buf) {
+
+        ownerId = buf.readVarInt() - 1;
+        x = buf.readDouble();
+        y = buf.readDouble();
+        z = buf.readDouble();
+        motionX = buf.readFloat();
+        motionY = buf.readFloat();
+        motionZ = buf.readFloat();
+        xRot = buf.readFloat();
+        yRot = buf.readFloat();
+        duration = buf.readUnsignedByte();
+    }
+
+    public static void sendToClient(FluxSlash slash, ServerPlayer player) {
+
+        FluxSlashPacket packet = new FluxSlashPacket();
+        Entity owner = slash.getOwner();
+        Vec3 motion = slash.getDeltaMovement();
+        packet.ownerId = owner == null ? -1 : owner.getId();
+        packet.x = slash.getX();
+        packet.y = slash.getY();
+        packet.z = slash.getZ();
+        packet.motionX = (float) motion.x;
+        packet.motionY = (float) motion.y;
+        packet.motionZ = (float) motion.z;
+        packet.xRot = slash.getXRot();
+        packet.yRot = slash.getYRot();
+        packet.duration = Math.min(slash.duration, 255);
+        packet.sendToPlayer(player);
+    }
+
+}
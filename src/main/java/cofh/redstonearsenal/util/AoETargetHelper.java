@@ -0,0 +1,168 @@
+package cofh.redstonearsenal.util;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntitySelector;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Target acquisition for area attacks (Shockwaves, Trident plunges, Shield repels and explosive Flux Arrows).
+ * <p>
+ * Server-side, the entity lookup is shared through a per-tick snapshot of the level's 16x16x16 sections. The first query in a tick to touch
+ * a section fetches every non-creative, non-spectator entity in that section, enlarged by {@link #MARGIN} so that entities moved earlier in
+ * the tick are still found. Every later query in the same level and tick that touches the section reuses that list, so any number of area
+ * attacks over the same ground cost one entity lookup per section. The snapshot is dropped whenever an entity joins the level, and at the end
+ * of every server tick, so it never outlives the tick it was built in. Each query then applies its own shape test (annulus or sphere) and
+ * returns a new list, so callers may hurt or move entities, and trigger further queries, while iterating.
+ */
+public class AoETargetHelper {
+
+    public static final double MARGIN = 4.0D;
+
+    private static final Map<Level, Snapshot> SNAPSHOTS = new HashMap<>();
+
+    private AoETargetHelper() {
+
+    }
+
+    public static List<Entity> getTargets(Level level, @Nullable Entity except, AABB area, Predicate<? super Entity> shape) {
+
+        return getTargets(level, Entity.class, except, area, shape);
+    }
+
+    public static <T extends Entity> List<T> getTargets(Level level, Class<T> type, @Nullable Entity except, AABB area, Predicate<? super T> shape) {
+
+        List<T> targets = new ArrayList<>();
+        for (Entity entity : getCandidates(level, area)) {
+            if (entity != except && type.isInstance(entity) && !entity.isRemoved() && entity.getBoundingBox().intersects(area)) {
+                T target = type.cast(entity);
+                if (shape.test(target)) {
+                    targets.add(target);
+                }
+            }
+        }
+        return targets;
+    }
+
+    // region SHAPES
+    /**
+     * Entities whose feet lie strictly between two horizontal radii of the center.
+     */
+    public static Predicate<Entity> annulus(Vec3 center, double lower, double upper) {
+
+        double lowerSqr = lower * lower;
+        double upperSqr = upper * upper;
+        return entity -> {
+            double dx = entity.getX() - center.x;
+            double dz = entity.getZ() - center.z;
+            double distSqr = dx * dx + dz * dz;
+            return lowerSqr < distSqr && distSqr < upperSqr;
+        };
+    }
+
+    /**
+     * Entities whose feet lie within a radius of the center.
+     */
+    public static Predicate<Entity> sphere(Vec3 center, double radius) {
+
+        double radiusSqr = radius * radius;
+        return entity -> entity.distanceToSqr(center) <= radiusSqr;
+    }
+
+    /**
+     * Entities whose bounding box center lies strictly within a radius of the center.
+     */
+    public static Predicate<Entity> sphereBounds(Vec3 center, double radius) {
+
+        double radiusSqr = radius * radius;
+        return entity -> center.distanceToSqr(entity.getBoundingBox().getCenter()) < radiusSqr;
+    }
+    // endregion
+
+    // region BROADPHASE
+    protected static List<Entity> getCandidates(Level level, AABB area) {
+
+        if (level.isClientSide) {
+            return level.getEntities((Entity) null, area, EntitySelector.NO_CREATIVE_OR_SPECTATOR);
+        }
+        long time = level.getGameTime();
+        Snapshot snapshot = SNAPSHOTS.get(level);
+        if (snapshot == null || snapshot.time != time) {
+            snapshot = new Snapshot(time);
+            SNAPSHOTS.put(level, snapshot);
+        }
+        int minX = SectionPos.posToSectionCoord(area.minX);
+        int minY = SectionPos.posToSectionCoord(area.minY);
+        int minZ = SectionPos.posToSectionCoord(area.minZ);
+        int maxX = SectionPos.posToSectionCoord(area.maxX);
+        int maxY = SectionPos.posToSectionCoord(area.maxY);
+        int maxZ = SectionPos.posToSectionCoord(area.maxZ);
+        if (minX == maxX && minY == maxY && minZ == maxZ) {
+            return snapshot.getSection(level, minX, minY, minZ);
+        }
+        // Enlarged sections overlap, so an entity near a boundary is listed by each of them.
+        List<Entity> candidates = new ArrayList<>();
+        IntSet seen = new IntOpenHashSet();
+        for (int x = minX; x <= maxX; ++x) {
+            for (int y = minY; y <= maxY; ++y) {
+                for (int z = minZ; z <= maxZ; ++z) {
+                    for (Entity entity : snapshot.getSection(level, x, y, z)) {
+                        if (seen.add(entity.getId())) {
+                            candidates.add(entity);
+                        }
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Drops the snapshot for a level, so entities added to it are seen by the next query.
+     */
+    public static void invalidate(Level level) {
+
+        if (!level.isClientSide) {
+            SNAPSHOTS.remove(level);
+        }
+    }
+
+    public static void clear() {
+
+        SNAPSHOTS.clear();
+    }
+
+    private static class Snapshot {
+
+        final long time;
+        final Long2ObjectOpenHashMap<List<Entity>> sections = new Long2ObjectOpenHashMap<>();
+
+        Snapshot(long time) {
+
+            this.time = time;
+        }
+
+        List<Entity> getSection(Level level, int x, int y, int z) {
+
+            return sections.computeIfAbsent(SectionPos.asLong(x, y, z), key -> {
+                AABB bounds = new AABB(SectionPos.sectionToBlockCoord(x), SectionPos.sectionToBlockCoord(y), SectionPos.sectionToBlockCoord(z),
+                        SectionPos.sectionToBlockCoord(x + 1), SectionPos.sectionToBlockCoord(y + 1), SectionPos.sectionToBlockCoord(z + 1));
+                return level.getEntities((Entity) null, bounds.inflate(MARGIN), EntitySelector.NO_CREATIVE_OR_SPECTATOR);
+            });
+        }
+
+    }
+    // endregion
+}
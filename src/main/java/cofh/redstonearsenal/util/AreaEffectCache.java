@@ -0,0 +1,64 @@
+package cofh.redstonearsenal.util;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+
+import javax.annotation.Nullable;
+
+/**
+ * Remembers the last area effect result of a tool, so repeated queries for the same target within a tick (such as the block outline, which is
+ * drawn every frame) do not recompute the area.
+ * <p>
+ * The key covers the target position and state, the player's position, eye height and rotation (which decide the face being mined), a
+ * tool-specific variant such as mode or radius, and the game time.
+ */
+public class AreaEffectCache {
+
+    protected Player player;
+    protected Level level;
+    protected BlockPos pos;
+    protected BlockState state;
+    protected long time;
+    protected int variant;
+    protected double x;
+    protected double y;
+    protected double z;
+    protected float eyeHeight;
+    protected float xRot;
+    protected float yRot;
+
+    protected ImmutableList<BlockPos> blocks;
+
+    @Nullable
+    public ImmutableList<BlockPos> get(BlockPos pos, Player player, int variant) {
+
+        if (blocks == null || player != this.player || player.level != level || variant != this.variant || level.getGameTime() != time
+                || player.getX() != x || player.getY() != y || player.getZ() != z || player.getEyeHeight() != eyeHeight
+                || player.xRot != xRot || player.yRot != yRot || !pos.equals(this.pos) || level.getBlockState(pos) != state) {
+            this.player = player;
+            this.level = player.level;
+            this.pos = pos.immutable();
+            this.state = level.getBlockState(pos);
+            this.time = level.getGameTime();
+            this.variant = variant;
+            this.x = player.getX();
+            this.y = player.getY();
+            this.z = player.getZ();
+            this.eyeHeight = player.getEyeHeight();
+            this.xRot = player.xRot;
+            this.yRot = player.yRot;
+            this.blocks = null;
+        }
+        return blocks;
+    }
+
+    public ImmutableList<BlockPos> put(ImmutableList<BlockPos> blocks) {
+
+        this.blocks = blocks;
+        return blocks;
+    }
+
+}
@@ -0,0 +1,185 @@
+package cofh.redstonearsenal.util;
+
+import cofh.redstonearsenal.config.RSAConfig;
+import cofh.redstonearsenal.item.IFluxItem;
+import com.google.common.collect.ImmutableList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Spreads large area effect harvests over several server ticks, under a per-tick block budget.
+ * <p>
+ * When a player breaks a block, the area effect tool returns the first batch as usual. The remaining blocks are queued here, sorted by chunk
+ * section, and harvested on following ticks. Each queued block is only broken if it is still in the state the tool selected it in. Energy for
+ * each queued batch is charged once, after the batch, and counted against the tool's stored energy as the batch runs.
+ */
+public class AreaEffectScheduler {
+
+    private static final List<Job> JOBS = new ArrayList<>();
+
+    private static Player breakingPlayer;
+    private static BlockPos breakingPos;
+    private static boolean harvesting;
+    private static int pendingEnergy;
+
+    private AreaEffectScheduler() {
+
+    }
+
+    /**
+     * Marks the start of a player block break, so the next area effect query for that block may be batched.
+     */
+    public static void onBreakBlock(Player player, BlockPos pos) {
+
+        if (!harvesting && !player.level.isClientSide) {
+            breakingPlayer = player;
+            breakingPos = pos;
+        }
+    }
+
+    /**
+     * True while a queued batch is being harvested; area effect tools must not expand the area of these breaks.
+     */
+    public static boolean isHarvesting(Player player) {
+
+        return harvesting && !player.level.isClientSide;
+    }
+
+    public static ImmutableList<BlockPos> schedule(ItemStack stack, BlockPos pos, Player player, ImmutableList<BlockPos> blocks) {
+
+        if (player != breakingPlayer || !pos.equals(breakingPos)) {
+            return blocks;
+        }
+        breakingPlayer = null;
+        breakingPos = null;
+
+        int budget = RSAConfig.areaEffectBlocksPerTick.get();
+        if (budget <= 0 || blocks.size() <= budget || !(player instanceof ServerPlayer serverPlayer) || !(stack.getItem() instanceof IFluxItem)) {
+            return blocks;
+        }
+        List<BlockPos> deferred = new ArrayList<>(blocks.subList(budget, blocks.size()));
+        deferred.sort(Comparator.comparingLong(p -> SectionPos.blockToSection(p.asLong())));
+        List<BlockState> states = new ArrayList<>(deferred.size());
+        for (BlockPos deferredPos : deferred) {
+            states.add(player.level.getBlockState(deferredPos));
+        }
+        JOBS.add(new Job(serverPlayer, stack, deferred, states));
+        return blocks.subList(0, budget);
+    }
+
+    /**
+     * Uses energy for a mined block. While a queued batch is being harvested, the energy is added to the batch total instead.
+     */
+    public static void useEnergy(IFluxItem item, ItemStack stack, LivingEntity living) {
+
+        if (harvesting) {
+            pendingEnergy += item.getEnergyPerUse(false);
+        } else {
+            item.useEnergy(stack, false, living);
+        }
+    }
+
+    public static void tick() {
+
+        breakingPlayer = null;
+        breakingPos = null;
+        if (JOBS.isEmpty()) {
+            return;
+        }
+        int budget = RSAConfig.areaEffectBlocksPerTick.get();
+        if (budget <= 0) {
+            budget = Integer.MAX_VALUE;
+        }
+        Iterator<Job> iterator = JOBS.iterator();
+        while (iterator.hasNext() && budget > 0) {
+            Job job = iterator.next();
+            harvesting = true;
+            pendingEnergy = 0;
+            try {
+                budget -= job.harvest(budget);
+            } finally {
+                harvesting = false;
+            }
+            job.chargeEnergy(pendingEnergy);
+            if (job.isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public static void clear() {
+
+        JOBS.clear();
+        breakingPlayer = null;
+        breakingPos = null;
+    }
+
+    // region JOB
+    private static class Job {
+
+        final ServerPlayer player;
+        final ItemStack stack;
+        final IFluxItem item;
+        final Level level;
+        final List<BlockPos> blocks;
+        final List<BlockState> states;
+        int index;
+
+        Job(ServerPlayer player, ItemStack stack, List<BlockPos> blocks, List<BlockState> states) {
+
+            this.player = player;
+            this.stack = stack;
+            this.item = (IFluxItem) stack.getItem();
+            this.level = player.level;
+            this.blocks = blocks;
+            this.states = states;
+        }
+
+        boolean isValid() {
+
+            int owed = player.abilities.instabuild ? 0 : pendingEnergy;
+            return !player.isRemoved() && player.isAlive() && player.level == level && player.getMainHandItem() == stack && item.hasEnergy(stack, item.getEnergyPerUse(false) + owed);
+        }
+
+        boolean isDone() {
+
+            return index >= blocks.size() || !isValid();
+        }
+
+        int harvest(int budget) {
+
+            int processed = 0;
+            while (processed < budget && index < blocks.size() && isValid()) {
+                BlockState scheduled = states.get(index);
+                BlockPos pos = blocks.get(index++);
+                ++processed;
+                // Skip blocks changed since they were selected; the tool never chose their new state.
+                BlockState state = level.getBlockState(pos);
+                if (state == scheduled && !state.isAir() && state.getDestroySpeed(level, pos) >= 0.0F) {
+                    player.gameMode.destroyBlock(pos);
+                }
+            }
+            return processed;
+        }
+
+        void chargeEnergy(int energy) {
+
+            if (energy > 0) {
+                item.useEnergy(stack, Math.min(energy, item.getEnergyStored(stack)), player);
+            }
+        }
+
+    }
+    // endregion
+}
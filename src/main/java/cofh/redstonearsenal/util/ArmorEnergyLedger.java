@@ -0,0 +1,82 @@
+package cofh.redstonearsenal.util;
+
+import cofh.redstonearsenal.item.FluxArmorItem;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Collects the energy drained from worn Flux Armor during a server tick and takes it from each piece once, at the end of the tick.
+ * <p>
+ * An entity struck several times in one tick (sweeps, explosions, shockwaves) would otherwise have every armor piece's energy tag rewritten
+ * once per hit.
+ */
+public class ArmorEnergyLedger {
+
+    private static final EquipmentSlot[] SLOTS = {EquipmentSlot.FEET, EquipmentSlot.LEGS, EquipmentSlot.CHEST, EquipmentSlot.HEAD};
+
+    private static final Map<LivingEntity, Entry> LEDGER = new WeakHashMap<>();
+
+    private ArmorEnergyLedger() {
+
+    }
+
+    public static void drain(LivingEntity entity, ItemStack stack, FluxArmorItem armor, EquipmentSlot slot, int amount) {
+
+        if (amount <= 0) {
+            return;
+        }
+        if (entity.level.isClientSide) {
+            armor.useEnergy(stack, Math.min(amount, armor.getEnergyStored(stack)), entity);
+            return;
+        }
+        Entry entry = LEDGER.computeIfAbsent(entity, e -> new Entry());
+        int index = slot.getIndex();
+        if (entry.stacks[index] != stack) {
+            entry.commit(entity, index);
+            entry.stacks[index] = stack;
+        }
+        entry.amounts[index] += amount;
+    }
+
+    public static void commit() {
+
+        if (LEDGER.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<LivingEntity, Entry> ledger : LEDGER.entrySet()) {
+            Entry entry = ledger.getValue();
+            for (int i = 0; i < SLOTS.length; ++i) {
+                entry.commit(ledger.getKey(), i);
+            }
+        }
+        LEDGER.clear();
+    }
+
+    public static void clear() {
+
+        LEDGER.clear();
+    }
+
+    private static class Entry {
+
+        final ItemStack[] stacks = new ItemStack[SLOTS.length];
+        final int[] amounts = new int[SLOTS.length];
+
+        void commit(LivingEntity entity, int index) {
+
+            ItemStack stack = stacks[index];
+            int amount = amounts[index];
+            stacks[index] = null;
+            amounts[index] = 0;
+            if (stack != null && amount > 0 && stack.getItem() instanceof FluxArmorItem armor) {
+                armor.useEnergy(stack, Math.min(amount, armor.getEnergyStored(stack)), entity);
+            }
+        }
+
+    }
+
+}
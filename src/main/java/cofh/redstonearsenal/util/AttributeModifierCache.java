@@ -0,0 +1,38 @@
+package cofh.redstonearsenal.util;
+
+import cofh.redstonearsenal.item.IMultiModeFluxItem;
+import com.google.common.collect.Multimap;
+import net.minecraft.world.entity.ai.attributes.Attribute;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.function.Function;
+
+/**
+ * Per-item cache of immutable attribute modifier maps, keyed by charged and empowered state.
+ * The factory must only depend on those two states, as its result is shared by every stack of the item.
+ */
+public class AttributeModifierCache {
+
+    protected final Function<ItemStack, Multimap<Attribute, AttributeModifier>> factory;
+    protected final Object[] cache = new Object[4];
+
+    public AttributeModifierCache(Function<ItemStack, Multimap<Attribute, AttributeModifier>> factory) {
+
+        this.factory = factory;
+    }
+
+    @SuppressWarnings ("unchecked")
+    public Multimap<Attribute, AttributeModifier> get(ItemStack stack, IMultiModeFluxItem item) {
+
+        boolean charged = item.hasEnergy(stack, false);
+        int key = (charged ? 1 : 0) | (charged && item.isEmpowered(stack) && item.hasEnergy(stack, true) ? 2 : 0);
+        Multimap<Attribute, AttributeModifier> modifiers = (Multimap<Attribute, AttributeModifier>) cache[key];
+        if (modifiers == null) {
+            modifiers = factory.apply(stack);
+            cache[key] = modifiers;
+        }
+        return modifiers;
+    }
+
+}
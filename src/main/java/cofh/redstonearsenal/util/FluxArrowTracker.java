@@ -0,0 +1,73 @@
+package cofh.redstonearsenal.util;
+
+import cofh.redstonearsenal.config.RSAConfig;
+import cofh.redstonearsenal.entity.FluxArrow;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.*;
+
+/**
+ * Keeps track of live Flux Arrows on the server and enforces a budget per shooter.
+ * <p>
+ * When a shooter goes over the limit, their oldest arrow is removed. Arrows in flight are also retired early when their next moves would take
+ * them out of the entity-ticking chunks, where they would only be frozen or saved with the chunk.
+ */
+public class FluxArrowTracker {
+
+    public static final int CHECK_INTERVAL = 10;
+
+    private static final Map<Level, Map<UUID, Deque<FluxArrow>>> ARROWS = new WeakHashMap<>();
+
+    private FluxArrowTracker() {
+
+    }
+
+    public static void onAdded(FluxArrow arrow, UUID shooter) {
+
+        Deque<FluxArrow> arrows = ARROWS.computeIfAbsent(arrow.level, l -> new HashMap<>()).computeIfAbsent(shooter, s -> new ArrayDeque<>());
+        arrows.addLast(arrow);
+        int budget = RSAConfig.fluxArrowsPerShooter.get();
+        while (budget > 0 && arrows.size() > budget) {
+            arrows.pollFirst().discard();
+        }
+    }
+
+    public static void onRemoved(FluxArrow arrow, UUID shooter) {
+
+        Map<UUID, Deque<FluxArrow>> shooters = ARROWS.get(arrow.level);
+        Deque<FluxArrow> arrows = shooters == null ? null : shooters.get(shooter);
+        if (arrows != null && arrows.remove(arrow) && arrows.isEmpty()) {
+            shooters.remove(shooter);
+        }
+    }
+
+    /**
+     * Checks, every few ticks, whether an arrow in flight is about to leave the entity-ticking chunks. The caller is expected to discard it,
+     * and to only ask for arrows that are not stuck in the ground.
+     */
+    public static boolean shouldRetire(FluxArrow arrow) {
+
+        if ((arrow.tickCount + arrow.getId()) % CHECK_INTERVAL != 0 || !(arrow.level instanceof ServerLevel level)) {
+            return false;
+        }
+        Vec3 next = arrow.position().add(arrow.getDeltaMovement().scale(CHECK_INTERVAL));
+        return !level.isPositionEntityTicking(new BlockPos(next));
+    }
+
+    public static int getArrowCount(Entity shooter) {
+
+        Map<UUID, Deque<FluxArrow>> shooters = ARROWS.get(shooter.level);
+        Deque<FluxArrow> arrows = shooters == null ? null : shooters.get(shooter.getUUID());
+        return arrows == null ? 0 : arrows.size();
+    }
+
+    public static void clear() {
+
+        ARROWS.clear();
+    }
+
+}
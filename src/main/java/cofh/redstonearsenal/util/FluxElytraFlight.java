@@ -0,0 +1,141 @@
+package cofh.redstonearsenal.util;
+
+import cofh.redstonearsenal.item.FluxElytraItem;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Transient flight state for entities wearing a Flux Elytra: the start of the current boost and the energy spent since the last debit.
+ * <p>
+ * None of this is written to the elytra's NBT while flying. Both sides run the same flight logic each tick, so the client predicts boosts and
+ * brakes from its own copy of the state. Only the server takes energy from the stack, every {@link #DEBIT_INTERVAL} ticks and on landing,
+ * logging out, changing dimension or dying. If the server finds the elytra out of energy it ends the flight, which the client follows through
+ * the usual fall-flying sync.
+ */
+public class FluxElytraFlight {
+
+    public static final int DEBIT_INTERVAL = 100;
+
+    private static final Map<LivingEntity, State> SERVER = new WeakHashMap<>();
+    private static final Map<LivingEntity, State> CLIENT = new WeakHashMap<>();
+
+    private FluxElytraFlight() {
+
+    }
+
+    public static State get(LivingEntity entity, ItemStack stack, FluxElytraItem elytra) {
+
+        State state = getMap(entity).computeIfAbsent(entity, e -> new State(e.level.isClientSide));
+        if (state.stack != stack) {
+            state.debit();
+            state.stack = stack;
+            state.elytra = elytra;
+            state.boostStart = -1;
+            state.lastDebit = entity.level.getGameTime();
+        }
+        return state;
+    }
+
+    /**
+     * Ends the entity's flight, debiting any energy still owed. Safe to call for entities that are not flying.
+     */
+    public static void land(LivingEntity entity) {
+
+        State state = getMap(entity).remove(entity);
+        if (state != null) {
+            state.debit();
+        }
+    }
+
+    public static void clear() {
+
+        for (State state : SERVER.values()) {
+            state.debit();
+        }
+        SERVER.clear();
+    }
+
+    /**
+     * Drops the client's predicted flights. Nothing is debited, as the client never takes energy from the stack.
+     */
+    public static void clearClient() {
+
+        CLIENT.clear();
+    }
+
+    protected static Map<LivingEntity, State> getMap(LivingEntity entity) {
+
+        return entity.level.isClientSide ? CLIENT : SERVER;
+    }
+
+    public static class State {
+
+        protected final boolean client;
+        protected ItemStack stack = ItemStack.EMPTY;
+        protected FluxElytraItem elytra;
+        protected long boostStart = -1;
+        protected long lastDebit;
+        protected int pending;
+
+        protected State(boolean client) {
+
+            this.client = client;
+        }
+
+        /**
+         * Charges energy to the flight if the elytra can cover it, counting energy already charged but not yet debited.
+         */
+        public boolean drain(int amount) {
+
+            if (elytra.getEnergyStored(stack) - pending < amount) {
+                return false;
+            }
+            pending += amount;
+            return true;
+        }
+
+        public boolean isBoosting(long time, int duration) {
+
+            return boostStart >= 0 && time - boostStart <= duration;
+        }
+
+        public void startBoost(long time) {
+
+            boostStart = time;
+        }
+
+        public void stopBoost() {
+
+            boostStart = -1;
+        }
+
+        public void tick(long time) {
+
+            if (time - lastDebit >= DEBIT_INTERVAL) {
+                debit();
+                lastDebit = time;
+            }
+        }
+
+        /**
+         * Server-side, takes the pending energy from the elytra, in as many extractions as its transfer rate needs. Client-side, drops the
+         * prediction; the stack's energy will be resynced.
+         */
+        protected void debit() {
+
+            while (pending > 0 && !client) {
+                int extracted = elytra.extractEnergy(stack, Math.min(pending, elytra.getExtract(stack)), false);
+                if (extracted <= 0) {
+                    break;
+                }
+                pending -= extracted;
+            }
+            pending = 0;
+        }
+
+    }
+
+}
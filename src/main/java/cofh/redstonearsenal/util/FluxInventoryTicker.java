@@ -0,0 +1,105 @@
+package cofh.redstonearsenal.util;
+
+import cofh.redstonearsenal.item.IFluxItem;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Runs the per-tick logic of every Flux item in a player's inventory from a single player tick, instead of from each item's inventoryTick.
+ * <p>
+ * Each player keeps an index of the slots holding Flux items and the stacks seen in them. It is rebuilt when the inventory reports a change,
+ * when an indexed slot no longer holds the indexed stack, and periodically, since not every slot write is reported. Players without Flux
+ * items cost one counter comparison per tick. State transitions, such as the player landing after fall-flying, are detected here once per
+ * player and passed on to the items that care about them.
+ * <p>
+ * Player ticks run on both the client and the integrated server thread, so each side has its own index map. The server map is cleared when
+ * the server stops, and the client map when the client logs out.
+ */
+public class FluxInventoryTicker {
+
+    public static final int REINDEX_INTERVAL = 20;
+
+    private static final Map<Player, Index> SERVER = new WeakHashMap<>();
+    private static final Map<Player, Index> CLIENT = new WeakHashMap<>();
+
+    private FluxInventoryTicker() {
+
+    }
+
+    public static void tick(Player player) {
+
+        Index index = (player.level.isClientSide ? CLIENT : SERVER).computeIfAbsent(player, p -> new Index());
+        Inventory inventory = player.getInventory();
+        if (index.timesChanged != inventory.getTimesChanged() || player.tickCount % REINDEX_INTERVAL == 0 || !index.matches(inventory)) {
+            index.rebuild(inventory);
+        }
+        boolean fallFlying = player.isFallFlying();
+        boolean stoppedFlying = index.fallFlying && !fallFlying;
+        index.fallFlying = fallFlying;
+
+        if (index.slots.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < index.slots.size(); ++i) {
+            int slot = index.slots.getInt(i);
+            ItemStack stack = index.stacks.get(i);
+            if (stack.getItem() instanceof IFluxItem item) {
+                if (stoppedFlying) {
+                    item.onStopFallFlying(stack, player);
+                }
+                item.fluxInventoryTick(stack, player, slot);
+            }
+        }
+    }
+
+    public static void clear() {
+
+        SERVER.clear();
+    }
+
+    public static void clearClient() {
+
+        CLIENT.clear();
+    }
+
+    private static class Index {
+
+        final IntArrayList slots = new IntArrayList();
+        final List<ItemStack> stacks = new ArrayList<>();
+        int timesChanged = -1;
+        boolean fallFlying;
+
+        boolean matches(Inventory inventory) {
+
+            for (int i = 0; i < slots.size(); ++i) {
+                if (inventory.getItem(slots.getInt(i)) != stacks.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void rebuild(Inventory inventory) {
+
+            slots.clear();
+            stacks.clear();
+            for (int i = 0; i < inventory.getContainerSize(); ++i) {
+                ItemStack stack = inventory.getItem(i);
+                if (stack.getItem() instanceof IFluxItem) {
+                    slots.add(i);
+                    stacks.add(stack);
+                }
+            }
+            timesChanged = inventory.getTimesChanged();
+        }
+
+    }
+
+}
@@ -17,8 +17,7 @@ import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.common.util.LazyOptional;
 
-import java.util.function.Consumer;
-import java.util.function.Predicate;
+import java.util.*;
 
 import static cofh.redstonearsenal.capability.CapabilityFluxShielding.FLUX_SHIELDED_ITEM_CAPABILITY;
 import static cofh.redstonearsenal.init.RSASounds.SOUND_SHIELDING_BREAK;
@@ -30,29 +29,19 @@ public class FluxShieldingHelper {
 
     public static int currentCharges = 0;
     public static int maximumCharges = 0;
+    public static long rechargeTime = -1;
 
-    public static ItemStack findShieldedItem(LivingEntity entity) {
+    private static final Map<LivingEntity, List<ItemStack>> SHIELDED_ITEMS = new WeakHashMap<>();
+    private static final Map<ServerPlayer, long[]> SYNCED_STATE = new WeakHashMap<>();
 
-        Predicate<ItemStack> isShieldedItem = i -> i.getCapability(FLUX_SHIELDED_ITEM_CAPABILITY).map(cap -> cap.currCharges(entity) > 0).orElse(false);
+    public static ItemStack findShieldedItem(LivingEntity entity) {
 
-        // ARMOR
-        for (ItemStack piece : entity.getArmorSlots()) {
-            if (isShieldedItem.test(piece)) {
-                return piece;
+        for (ItemStack stack : getShieldedItems(entity)) {
+            if (getCurrCharges(entity, stack) > 0) {
+                return stack;
             }
         }
-        // CURIOS
-        final ItemStack[] retStack = {ItemStack.EMPTY};
-        CuriosProxy.getAllWorn(entity).ifPresent(c -> {
-            for (int i = 0; i < c.getSlots(); ++i) {
-                ItemStack slot = c.getStackInSlot(i);
-                if (isShieldedItem.test(slot)) {
-                    retStack[0] = slot;
-                    return;
-                }
-            }
-        });
-        return retStack[0];
+        return ItemStack.EMPTY;
     }
 
     public static int[] countCharges(LivingEntity entity) {
@@ -61,22 +50,77 @@ public class FluxShieldingHelper {
         if (entity == null) {
             return counter;
         }
-        Consumer<ItemStack> count = i -> {
-            counter[0] += getCurrCharges(entity, i);
-            counter[1] += getMaxCharges(entity, i);
-        };
+        for (ItemStack stack : getShieldedItems(entity)) {
+            counter[0] += getCurrCharges(entity, stack);
+            counter[1] += getMaxCharges(entity, stack);
+        }
+        return counter;
+    }
+
+    // region SHIELD INDEX
+    /**
+     * Returns the shielded items worn by an entity. Server-side results are cached per entity until the entity's armor or Curios change.
+     */
+    public static List<ItemStack> getShieldedItems(LivingEntity entity) {
+
+        if (entity.level.isClientSide) {
+            return collectShieldedItems(entity);
+        }
+        List<ItemStack> items = SHIELDED_ITEMS.get(entity);
+        if (items == null) {
+            items = collectShieldedItems(entity);
+            SHIELDED_ITEMS.put(entity, items);
+        }
+        return items;
+    }
+
+    public static void invalidateShieldedItems(LivingEntity entity) {
+
+        if (!entity.level.isClientSide) {
+            SHIELDED_ITEMS.remove(entity);
+            if (entity instanceof ServerPlayer player) {
+                ShieldRechargeScheduler.schedule(player, player.level.getGameTime());
+            }
+        }
+    }
 
+    protected static List<ItemStack> collectShieldedItems(LivingEntity entity) {
+
+        List<ItemStack> items = new ArrayList<>();
         // ARMOR
-        for (ItemStack item : entity.getArmorSlots()) {
-            count.accept(item);
+        for (ItemStack piece : entity.getArmorSlots()) {
+            if (isShieldedItem(piece)) {
+                items.add(piece);
+            }
         }
         // CURIOS
         CuriosProxy.getAllWorn(entity).ifPresent(c -> {
             for (int i = 0; i < c.getSlots(); ++i) {
-                count.accept(c.getStackInSlot(i));
+                ItemStack slot = c.getStackInSlot(i);
+                if (isShieldedItem(slot)) {
+                    items.add(slot);
+                }
             }
         });
-        return counter;
+        return items.isEmpty() ? Collections.emptyList() : items;
+    }
+
+    protected static boolean isShieldedItem(ItemStack stack) {
+
+        return !stack.isEmpty() && stack.getCapability(FLUX_SHIELDED_ITEM_CAPABILITY).isPresent();
+    }
+    // endregion
+
+    public static long getNextRechargeTime(LivingEntity entity) {
+
+        long next = -1;
+        for (ItemStack stack : getShieldedItems(entity)) {
+            long time = stack.getCapability(FLUX_SHIELDED_ITEM_CAPABILITY).map(cap -> cap.nextRechargeTime(entity)).orElse(-1L);
+            if (time >= 0 && (next < 0 || time < next)) {
+                next = time;
+            }
+        }
+        return next;
     }
 
     public static boolean hasFluxShieldCharge(LivingEntity entity) {
@@ -127,6 +171,13 @@ public class FluxShieldingHelper {
         }
     }
 
+    // region HUD SYNC
+    public static void updateHUD(int currCharges, int maxCharges, long nextRecharge) {
+
+        updateHUD(currCharges, maxCharges);
+        rechargeTime = nextRecharge;
+    }
+
     public static void updateHUD(int currCharges, int maxCharges) {
 
         Player player = ProxyUtils.getClientPlayer();
@@ -140,19 +191,45 @@ public class FluxShieldingHelper {
         maximumCharges = maxCharges;
     }
 
-    public static void updateHUD(int[] charges) {
-
-        updateHUD(charges[0], charges[1]);
-    }
-
-    public static void updateHUD(Player player) {
+    /**
+     * Client-side regeneration prediction, using the recharge time last sent by the server.
+     */
+    public static void tickHUD(long gameTime) {
 
-        updateHUD(countCharges(player));
+        if (rechargeTime >= 0 && gameTime >= rechargeTime) {
+            rechargeTime = -1;
+            if (currentCharges < maximumCharges) {
+                updateHUD(currentCharges + 1, maximumCharges);
+            }
+        }
     }
 
+    /**
+     * Sends the player's shield state to their client, if it has changed since the last sync. Recharges and equipment changes are synced on
+     * the tick they happen by the {@link ShieldRechargeScheduler}; other changes, such as running out of energy, are picked up by a slower poll.
+     */
     public static void updateHUD(ServerPlayer player) {
 
-        FluxShieldingPacket.sendToClient(countCharges(player), player);
+        int[] charges = countCharges(player);
+        long nextRecharge = getNextRechargeTime(player);
+        long[] synced = SYNCED_STATE.get(player);
+        int flags = FluxShieldingPacket.FLAG_CURR | FluxShieldingPacket.FLAG_MAX | FluxShieldingPacket.FLAG_RECHARGE;
+        if (synced == null) {
+            synced = new long[3];
+            SYNCED_STATE.put(player, synced);
+        } else {
+            flags = (synced[0] != charges[0] ? FluxShieldingPacket.FLAG_CURR : 0)
+                    | (synced[1] != charges[1] ? FluxShieldingPacket.FLAG_MAX : 0)
+                    | (synced[2] != nextRecharge ? FluxShieldingPacket.FLAG_RECHARGE : 0);
+            if (flags == 0) {
+                return;
+            }
+        }
+        synced[0] = charges[0];
+        synced[1] = charges[1];
+        synced[2] = nextRecharge;
+        FluxShieldingPacket.sendToClient(flags, charges[0], charges[1], nextRecharge < 0 ? -1 : nextRecharge - player.level.getGameTime(), player);
     }
+    // endregion
 
 }
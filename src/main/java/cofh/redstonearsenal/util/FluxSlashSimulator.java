@@ -0,0 +1,66 @@
+package cofh.redstonearsenal.util;
+
+import cofh.redstonearsenal.entity.FluxSlash;
+import cofh.redstonearsenal.network.client.FluxSlashPacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Runs Flux Slashes on the server without adding them to the level.
+ * <p>
+ * A simulated slash is still swept block-by-block and tested against entities each tick, but it is never tracked, saved or sent as an entity.
+ * Nearby clients are sent a single {@link FluxSlashPacket} and play the slash locally.
+ */
+public class FluxSlashSimulator {
+
+    public static final double TRACKING_RANGE = 64.0D;
+
+    private static final List<FluxSlash> SLASHES = new ArrayList<>();
+
+    private FluxSlashSimulator() {
+
+    }
+
+    public static void fire(FluxSlash slash) {
+
+        if (!(slash.level instanceof ServerLevel level)) {
+            return;
+        }
+        SLASHES.add(slash);
+        double rangeSqr = TRACKING_RANGE * TRACKING_RANGE;
+        for (ServerPlayer player : level.players()) {
+            if (player.distanceToSqr(slash) < rangeSqr) {
+                FluxSlashPacket.sendToClient(slash, player);
+            }
+        }
+    }
+
+    public static void tick() {
+
+        if (SLASHES.isEmpty()) {
+            return;
+        }
+        Iterator<FluxSlash> iter = SLASHES.iterator();
+        while (iter.hasNext()) {
+            FluxSlash slash = iter.next();
+            if (!slash.isRemoved()) {
+                slash.setOldPosAndRot();
+                ++slash.tickCount;
+                slash.tick();
+            }
+            if (slash.isRemoved()) {
+                iter.remove();
+            }
+        }
+    }
+
+    public static void clear() {
+
+        SLASHES.clear();
+    }
+
+}
@@ -0,0 +1,172 @@
+package cofh.redstonearsenal.util;
+
+import cofh.redstonearsenal.capability.FluxGlowAirChunkData;
+import cofh.redstonearsenal.item.FluxPickaxeItem;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.HitResult;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static cofh.redstonearsenal.init.RSABlocks.FLUX_GLOW_AIR;
+
+/**
+ * Plans where an empowered Flux Pickaxe lights its holder's path. Server-side only.
+ * <p>
+ * The light engine decides first: a position it reports as lit never needs Glow Air. The engine lags behind placements, though, so a
+ * position it reports as dark may still be covered by Glow Air whose light has not propagated yet. For that, each holder keeps a coverage
+ * map: the Glow Air sources in the 3x3 chunks around it, read from the per-chunk Glow Air index, plus the sources planned this tick. A source
+ * covers a position if 15 minus the taxicab distance is above the threshold and nothing solid lies on the line between them, so light from
+ * the other side of a wall is not counted. The map is rebuilt when the holder changes chunk, and periodically so that Glow Air placed or
+ * removed by others is picked up.
+ * <p>
+ * Planned placements are held until the end of the server tick and placed together without neighbor updates, which Glow Air does not need.
+ * Each is re-checked against the chunk's Glow Air cap when it is placed, and energy is only taken for placements that succeed. Sources
+ * planned in the same tick count towards every holder's coverage, so holders mining together do not light the same patch twice, and the
+ * light engine and the chunk's block change packets take the whole batch at once.
+ */
+public class GlowAirPlanner {
+
+    public static final int SOURCE_LIGHT = 15;
+    public static final int REFRESH_TICKS = 100;
+
+    private static final Map<Entity, Coverage> COVERAGE = new WeakHashMap<>();
+    private static final List<Placement> PLANNED = new ArrayList<>();
+
+    private GlowAirPlanner() {
+
+    }
+
+    public static boolean needsLight(Level level, Entity entity, BlockPos pos, int threshold) {
+
+        if (level.getRawBrightness(pos, level.getSkyDarken()) > threshold) {
+            return false;
+        }
+        Coverage coverage = COVERAGE.computeIfAbsent(entity, e -> new Coverage());
+        long chunk = entity.chunkPosition().toLong();
+        long time = level.getGameTime();
+        if (coverage.level != level || coverage.chunk != chunk || time - coverage.refreshed >= REFRESH_TICKS) {
+            coverage.refresh(level, chunk, time);
+        }
+        if (coverage.covers(entity, pos, threshold)) {
+            return false;
+        }
+        for (Placement placement : PLANNED) {
+            if (placement.level == level && covers(level, entity, placement.pos, pos, threshold)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void plan(Level level, Player player, BlockPos pos, FluxPickaxeItem pickaxe, ItemStack stack) {
+
+        PLANNED.add(new Placement(level, pos.immutable(), pickaxe, stack, player));
+        Coverage coverage = COVERAGE.get(player);
+        if (coverage != null && coverage.level == level) {
+            coverage.sources.add(pos.asLong());
+        }
+    }
+
+    /**
+     * Places all Glow Air planned this tick. Called at the end of the server tick.
+     */
+    public static void flush() {
+
+        if (PLANNED.isEmpty()) {
+            return;
+        }
+        for (Placement placement : PLANNED) {
+            FluxPickaxeItem pickaxe = placement.pickaxe;
+            BlockState state = placement.level.getBlockState(placement.pos);
+            if (!state.isAir() || state.is(FLUX_GLOW_AIR.get()) || !pickaxe.canPlaceAir(placement.level, placement.pos)) {
+                continue;
+            }
+            if (placement.player.abilities.instabuild || pickaxe.hasEnergy(placement.stack, true)) {
+                if (pickaxe.placeAir(placement.level, null, placement.pos, 0.3F, Block.UPDATE_CLIENTS)) {
+                    pickaxe.useEnergy(placement.stack, true, placement.player.abilities.instabuild);
+                }
+            }
+        }
+        PLANNED.clear();
+    }
+
+    public static void clear() {
+
+        COVERAGE.clear();
+        PLANNED.clear();
+    }
+
+    /**
+     * Whether a source is close enough to light a position above the threshold, with nothing solid in between.
+     */
+    protected static boolean covers(Level level, Entity entity, BlockPos source, BlockPos pos, int threshold) {
+
+        if (SOURCE_LIGHT - source.distManhattan(pos) <= threshold) {
+            return false;
+        }
+        return source.equals(pos) || level.clip(new ClipContext(Vec3.atCenterOf(source), Vec3.atCenterOf(pos), ClipContext.Block.COLLIDER, ClipContext.Fluid.NONE, entity)).getType() == HitResult.Type.MISS;
+    }
+
+    // region COVERAGE
+    private record Placement(Level level, BlockPos pos, FluxPickaxeItem pickaxe, ItemStack stack, Player player) {
+
+    }
+
+    private static class Coverage {
+
+        final LongArrayList sources = new LongArrayList();
+        Level level;
+        long chunk;
+        long refreshed;
+
+        void refresh(Level level, long chunk, long time) {
+
+            this.level = level;
+            this.chunk = chunk;
+            this.refreshed = time;
+            sources.clear();
+            int centerX = ChunkPos.getX(chunk);
+            int centerZ = ChunkPos.getZ(chunk);
+            for (int cx = centerX - 1; cx <= centerX + 1; ++cx) {
+                for (int cz = centerZ - 1; cz <= centerZ + 1; ++cz) {
+                    LevelChunk levelChunk = level.getChunkSource().getChunkNow(cx, cz);
+                    FluxGlowAirChunkData data = levelChunk == null ? null : FluxGlowAirChunkData.getIndexed(levelChunk);
+                    if (data != null && data.size() > 0) {
+                        sources.addElements(sources.size(), data.getPositions());
+                    }
+                }
+            }
+        }
+
+        /**
+         * Whether any Glow Air around the holder covers the position. Sources too far away are skipped before anything is read from the level.
+         */
+        boolean covers(Entity entity, BlockPos pos, int threshold) {
+
+            BlockPos.MutableBlockPos source = new BlockPos.MutableBlockPos();
+            for (int i = 0; i < sources.size(); ++i) {
+                source.set(sources.getLong(i));
+                if (GlowAirPlanner.covers(level, entity, source, pos, threshold)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+    // endregion
+}
@@ -0,0 +1,66 @@
+package cofh.redstonearsenal.util;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.core.NonNullList;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * Maps each item in an inventory to the slots holding it, in slot order. Built once per use; it does not follow later changes to the inventory.
+ */
+public class InventoryIndex {
+
+    protected final NonNullList<ItemStack> inventory;
+    protected final Reference2ObjectOpenHashMap<Item, IntArrayList> slots = new Reference2ObjectOpenHashMap<>();
+
+    public InventoryIndex(NonNullList<ItemStack> inventory) {
+
+        this(inventory, stack -> true);
+    }
+
+    public InventoryIndex(NonNullList<ItemStack> inventory, Predicate<ItemStack> filter) {
+
+        this.inventory = inventory;
+        for (int i = 0; i < inventory.size(); ++i) {
+            ItemStack stack = inventory.get(i);
+            if (!stack.isEmpty() && filter.test(stack)) {
+                slots.computeIfAbsent(stack.getItem(), item -> new IntArrayList()).add(i);
+            }
+        }
+    }
+
+    public IntList getSlots(Item item) {
+
+        IntArrayList list = slots.get(item);
+        return list == null ? IntLists.emptyList() : list;
+    }
+
+    /**
+     * Slots holding any of the given items, in slot order. The items should be a set, so that each slot is only listed once.
+     */
+    public IntList getSlots(Collection<Item> items) {
+
+        IntArrayList list = new IntArrayList();
+        for (Item item : items) {
+            IntArrayList itemSlots = slots.get(item);
+            if (itemSlots != null) {
+                list.addAll(itemSlots);
+            }
+        }
+        IntArrays.unstableSort(list.elements(), 0, list.size());
+        return list;
+    }
+
+    public ItemStack getStack(int slot) {
+
+        return inventory.get(slot);
+    }
+
+}
@@ -0,0 +1,95 @@
+package cofh.redstonearsenal.util;
+
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Timing wheel which syncs a player's flux shield HUD on the exact tick one of their charges recharges, or on the next tick after their
+ * shielded equipment changes.
+ * <p>
+ * Timers are kept in a ring of buckets, one per tick; timers further out than one turn of the wheel wait a number of extra rounds.
+ */
+public class ShieldRechargeScheduler {
+
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    @SuppressWarnings ("unchecked")
+    private static final List<Timer>[] WHEEL = new List[WHEEL_SIZE];
+
+    private static long currentTick;
+
+    private ShieldRechargeScheduler() {
+
+    }
+
+    /**
+     * Schedules a HUD sync for the given game time. Times in the past fire on the next tick.
+     */
+    public static void schedule(ServerPlayer player, long gameTime) {
+
+        long delay = Math.max(gameTime - player.level.getGameTime(), 1L);
+        int bucket = (int) ((currentTick + delay) & WHEEL_MASK);
+        if (WHEEL[bucket] == null) {
+            WHEEL[bucket] = new ArrayList<>();
+        }
+        WHEEL[bucket].add(new Timer(player, (delay - 1) >> WHEEL_BITS));
+    }
+
+    public static void tick() {
+
+        ++currentTick;
+        List<Timer> timers = WHEEL[(int) (currentTick & WHEEL_MASK)];
+        if (timers == null || timers.isEmpty()) {
+            return;
+        }
+        List<ServerPlayer> due = new ArrayList<>();
+        Iterator<Timer> iter = timers.iterator();
+        while (iter.hasNext()) {
+            Timer timer = iter.next();
+            if (timer.rounds > 0) {
+                --timer.rounds;
+                continue;
+            }
+            iter.remove();
+            if (!timer.player.isRemoved() && !due.contains(timer.player)) {
+                due.add(timer.player);
+            }
+        }
+        for (ServerPlayer player : due) {
+            FluxShieldingHelper.updateHUD(player);
+            long next = FluxShieldingHelper.getNextRechargeTime(player);
+            if (next >= 0) {
+                schedule(player, next);
+            }
+        }
+    }
+
+    public static void clear() {
+
+        for (List<Timer> timers : WHEEL) {
+            if (timers != null) {
+                timers.clear();
+            }
+        }
+        currentTick = 0;
+    }
+
+    private static class Timer {
+
+        final ServerPlayer player;
+        long rounds;
+
+        Timer(ServerPlayer player, long rounds) {
+
+            this.player = player;
+            this.rounds = rounds;
+        }
+
+    }
+
+}